@@ -27,7 +27,9 @@ package elf4j.engine;
 
 import elf4j.Level;
 import elf4j.Logger;
+import elf4j.engine.logging.LogHandler;
 import elf4j.engine.logging.LogHandlerFactory;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -39,13 +41,15 @@ import org.jspecify.annotations.Nullable;
  * the static factory method {@link Logger#instance()} is more performance-wise expensive to obtain;
  * it is recommended for static variables, and not local ones. By contrast, a NativeLogger instance
  * from the instance factory methods such as {@link NativeLogger#atLevel(Level)} or
- * {@link Logger#atDebug()} is relatively inexpensive, and can be used for variables of any scope or
+ * {@link Logger#atDebug()} is inexpensive, as the instances of different levels under the same
+ * logger name are created only once and then shared; it can be used for variables of any scope or
  * even inline as with the fluent-style API design.
  */
 @ThreadSafe
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class NativeLogger implements Logger {
   static final String DEFAULT_THROWABLE_MESSAGE = "";
+  private static final int LEVEL_COUNT = Level.values().length;
 
   @Getter
   @EqualsAndHashCode.Include
@@ -53,6 +57,25 @@ public class NativeLogger implements Logger {
 
   private final LogHandlerFactory logHandlerFactory;
 
+  /**
+   * Cached result of the log handler's enablement check for this logger's ID, valid only as long as
+   * its generation matches that of the log handler factory. Checking the cache is a plain field
+   * read and compare, sparing the handler's hash lookup on every call - most notably on the hot
+   * path of disabled log calls.
+   *
+   * @implNote Racy but benign: the snapshot is immutable, and a stale or lost snapshot only means
+   *     the enablement gets computed again.
+   */
+  private Enablement enablement = Enablement.UNKNOWN;
+
+  /**
+   * The logger instances of the same logger name, indexed by severity level ordinal. Shared by all
+   * the instances in it, and lazily populated as the instances of the different levels are first
+   * requested. Switching the severity level of a logger is therefore an array lookup rather than an
+   * instance creation.
+   */
+  private final AtomicReferenceArray<NativeLogger> siblings;
+
   /**
    * Constructs a new instance of the NativeLogger class specifically dedicated to service the
    * specified caller class and at the desired severity level.
@@ -61,15 +84,33 @@ public class NativeLogger implements Logger {
    * @param logHandlerFactory the access API to the log handler service
    */
   NativeLogger(LoggerId loggerId, LogHandlerFactory logHandlerFactory) {
+    this(loggerId, logHandlerFactory, new AtomicReferenceArray<>(LEVEL_COUNT));
+    siblings.set(loggerId.logSeverity.ordinal(), this);
+  }
+
+  private NativeLogger(
+      LoggerId loggerId,
+      LogHandlerFactory logHandlerFactory,
+      AtomicReferenceArray<NativeLogger> siblings) {
     this.loggerId = loggerId;
     this.logHandlerFactory = logHandlerFactory;
+    this.siblings = siblings;
   }
 
   @Override
   public NativeLogger atLevel(Level level) {
-    return loggerId.logSeverity == level
-        ? this
-        : new NativeLogger(new LoggerId(loggerId.loggerName, level), logHandlerFactory);
+    if (loggerId.logSeverity == level) {
+      return this;
+    }
+    int index = level.ordinal();
+    NativeLogger sibling = siblings.get(index);
+    if (sibling != null) {
+      return sibling;
+    }
+    NativeLogger created =
+        new NativeLogger(new LoggerId(loggerId.loggerName, level), logHandlerFactory, siblings);
+    NativeLogger witness = siblings.compareAndExchange(index, null, created);
+    return witness == null ? created : witness;
   }
 
   @Override
@@ -79,7 +120,7 @@ public class NativeLogger implements Logger {
 
   @Override
   public boolean isEnabled() {
-    return logHandlerFactory.getLogHandler().isEnabled(loggerId);
+    return enablement().enabled;
   }
 
   @Override
@@ -118,9 +159,40 @@ public class NativeLogger implements Logger {
    */
   public void process(
       @Nullable Throwable throwable, @Nullable Object message, Object @Nullable [] arguments) {
+    Enablement current = enablement();
+    if (!current.enabled && !current.recorded) {
+      return;
+    }
     logHandlerFactory.getLogHandler().log(loggerId, throwable, message, arguments);
   }
 
+  private Enablement enablement() {
+    Enablement cached = enablement;
+    long generation = logHandlerFactory.getGeneration();
+    if (cached.generation == generation) {
+      return cached;
+    }
+    LogHandler logHandler = logHandlerFactory.getLogHandler();
+    boolean enabled = logHandler.isEnabled(loggerId);
+    Enablement current =
+        new Enablement(generation, enabled, !enabled && logHandler.isRecorded(loggerId));
+    enablement = current;
+    return current;
+  }
+
+  /**
+   * Snapshot of a logger's enablement as of a given configuration generation of the log handler.
+   *
+   * @param generation the log handler generation that the enablement was computed in
+   * @param enabled whether the logger was enabled in that generation
+   * @param recorded whether the logger, though not enabled, was to have its log operations recorded
+   *     in that generation
+   */
+  private record Enablement(long generation, boolean enabled, boolean recorded) {
+    /** Never matches any actual handler generation, forcing the initial computation */
+    static final Enablement UNKNOWN = new Enablement(-1, false, false);
+  }
+
   /**
    * Although the logger's ID includes both the name and severity level of the logger, only the
    * logger name is used to configure the logger's minimum output threshold level. Only when the
@@ -25,6 +25,9 @@
 
 package elf4j.engine;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import elf4j.Level;
 import elf4j.Logger;
 import elf4j.engine.logging.LogHandlerFactory;
@@ -44,6 +47,13 @@ import org.slf4j.MdcAdapterInitializer;
 public class NativeLoggerFactory implements LoggerFactory {
   public static final Level DEFAULT_LOG_SEVERITY_LEVEL = Level.INFO;
 
+  /**
+   * Upper bound of the logger instances interned by the factory. Loggers are usually named after
+   * classes, so the bound is only meant to guard against applications generating logger names
+   * dynamically.
+   */
+  static final int MAX_INTERNED_LOGGERS = 10_000;
+
   /**
    * The default class or interface that the API client calls first to get a {@link Logger}
    * instance, providing the "service access API" in the {@link ServiceLoader} framework. The client
@@ -79,6 +89,13 @@ public class NativeLoggerFactory implements LoggerFactory {
 
   private final LogHandlerFactory logHandlerFactory;
 
+  /**
+   * Logger instances produced by this factory, keyed by logger name. As logger instances are
+   * immutable and compared by ID, a repeated request from the same caller class gets the same
+   * instance rather than a new one.
+   */
+  private final LoadingCache<String, NativeLogger> internedLoggers;
+
   /**
    * Default constructor required by {@link ServiceLoader}
    *
@@ -135,21 +152,25 @@ public class NativeLoggerFactory implements LoggerFactory {
         .collect(Collectors.toUnmodifiableSet());
     this.logHandlerFactory = logHandlerFactory;
     this.defaultLogSeverityLevel = defaultLogSeverityLevel;
+    this.internedLoggers = CacheBuilder.newBuilder()
+        .maximumSize(MAX_INTERNED_LOGGERS)
+        .build(CacheLoader.from(loggerName -> new NativeLogger(
+            new NativeLogger.LoggerId(loggerName, this.defaultLogSeverityLevel),
+            this.logHandlerFactory)));
     MdcAdapterInitializer.initialize();
   }
 
   /**
-   * More performance-wise expensive logger instance creation as it uses run-time stack trace to
-   * locate the client class calling the {@link #logServiceAccessClassNames}.
+   * More performance-wise expensive logger instance retrieval as it uses run-time stack trace to
+   * locate the client class calling the {@link #logServiceAccessClassNames}. The stack walk stops
+   * at the client caller frame, and the logger instance for the caller class is interned after the
+   * first request.
    *
-   * @return new instance of {@link NativeLogger}
+   * @return instance of {@link NativeLogger} named after the client caller class
    */
   @Override
   public NativeLogger getLogger() {
-    return new NativeLogger(
-        new NativeLogger.LoggerId(
-            StackTraces.earliestCallerOfAny(logServiceAccessClassNames).getClassName(),
-            defaultLogSeverityLevel),
-        logHandlerFactory);
+    return internedLoggers.getUnchecked(
+        StackTraces.callerOf(logServiceAccessClassNames).getClassName());
   }
 }
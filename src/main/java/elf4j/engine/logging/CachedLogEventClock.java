@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import lombok.ToString;
+
+/**
+ * A millisecond-precision clock whose time is cached and refreshed by a background ticker thread
+ * about every millisecond, so that reading it is a plain memory read. Once stopped, the clock falls
+ * back to reading the system clock directly.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class CachedLogEventClock implements LogEventClock, NativeLogServiceManager.Stoppable {
+  private static final long TICK_NANOS = Duration.ofMillis(1).toNanos();
+
+  private final Thread ticker;
+  private volatile long epochNanos = MILLIS.epochNanos();
+  private volatile boolean stopped;
+
+  private CachedLogEventClock() {
+    this.ticker = Thread.ofPlatform().name("elf4j-clock-ticker").daemon(true).unstarted(this::tick);
+  }
+
+  static CachedLogEventClock start() {
+    CachedLogEventClock cachedLogEventClock = new CachedLogEventClock();
+    cachedLogEventClock.ticker.start();
+    NativeLogServiceManager.INSTANCE.register(cachedLogEventClock);
+    return cachedLogEventClock;
+  }
+
+  @Override
+  public long epochNanos() {
+    return stopped ? MILLIS.epochNanos() : epochNanos;
+  }
+
+  @Override
+  public void stop() {
+    stopped = true;
+    LockSupport.unpark(ticker);
+  }
+
+  private void tick() {
+    while (!stopped) {
+      epochNanos = MILLIS.epochNanos();
+      LockSupport.parkNanos(this, TICK_NANOS);
+    }
+  }
+}
@@ -31,7 +31,6 @@ import elf4j.engine.logging.configuration.ConfigurationProperties;
 import elf4j.engine.logging.configuration.LoggerThresholdLevels;
 import elf4j.engine.logging.util.StackTraces;
 import elf4j.engine.logging.writer.CompositeLogEventWriter;
-import elf4j.engine.logging.writer.LogEventWriter;
 import elf4j.util.UtilLogger;
 import java.util.Map;
 import java.util.Set;
@@ -48,10 +47,17 @@ public class EventingLogHandler implements LogHandler {
 
   boolean noop;
 
-  @Nullable LogEventWriter logEventWriter;
+  /** Whether the log events below threshold are recorded by a flight recorder */
+  boolean recording;
+
+  @Nullable CompositeLogEventWriter logEventWriter;
 
   @Nullable LoggerThresholdLevels loggerThresholdLevels;
 
+  /** Sampling and rate limits per logger name space, if any configured */
+  @EqualsAndHashCode.Exclude
+  @Nullable LoggerThrottles loggerThrottles;
+
   Set<String> logServiceClassNames;
 
   @EqualsAndHashCode.Exclude
@@ -71,14 +77,18 @@ public class EventingLogHandler implements LogHandler {
     if (configurationProperties.isAbsent()
         || configurationProperties.isTrue(ConfigurationProperties.NOOP)) {
       noop = true;
+      recording = false;
       LOGGER.warn("No-op per configuration %s".formatted(configurationProperties));
       logEventWriter = null;
       loggerThresholdLevels = null;
+      loggerThrottles = null;
       return;
     }
     noop = false;
     logEventWriter = CompositeLogEventWriter.from(configurationProperties);
     loggerThresholdLevels = LoggerThresholdLevels.from(configurationProperties);
+    loggerThrottles = LoggerThrottles.from(configurationProperties);
+    recording = logEventWriter.isRecording();
   }
 
   /**
@@ -94,6 +104,10 @@ public class EventingLogHandler implements LogHandler {
     }
     assert loggerThresholdLevels != null;
     assert logEventWriter != null;
+    Boolean enabled = logEnablements.get(loggerId);
+    if (enabled != null) {
+      return enabled;
+    }
     return logEnablements.computeIfAbsent(
         loggerId,
         k ->
@@ -101,6 +115,19 @@ public class EventingLogHandler implements LogHandler {
                 >= 0);
   }
 
+  /**
+   * @return true if the specified logger ID is not enabled, but the flight recorder is configured
+   *     to record its log events
+   */
+  @Override
+  public boolean isRecorded(NativeLogger.LoggerId loggerId) {
+    if (!recording) {
+      return false;
+    }
+    assert logEventWriter != null;
+    return logEventWriter.isRecorded(loggerId.logSeverity()) && !isEnabled(loggerId);
+  }
+
   @Override
   public void log(
       NativeLogger.LoggerId loggerId,
@@ -108,23 +135,26 @@ public class EventingLogHandler implements LogHandler {
       @Nullable Object message,
       Object @Nullable [] arguments) {
     if (!isEnabled(loggerId)) {
+      if (isRecorded(loggerId)) {
+        assert logEventWriter != null;
+        logEventWriter.record(
+            loggerId.loggerName(), loggerId.logSeverity(), throwable, message, arguments);
+      }
+      return;
+    }
+    if (loggerThrottles != null
+        && !loggerThrottles.tryAcquire(loggerId.loggerName(), loggerId.logSeverity())) {
       return;
     }
     assert logEventWriter != null;
-    Thread callerThread = Thread.currentThread();
-    logEventWriter.write(LogEvent.builder()
-        .loggerName(loggerId.loggerName())
-        .level(loggerId.logSeverity())
-        .throwable(throwable)
-        .message(message)
-        .arguments(arguments)
-        .callerThread(
-            new LogEvent.CallerThreadValue(callerThread.getName(), callerThread.threadId()))
-        .callerFrame(
-            logEventWriter.requiresCallerDetail()
-                ? LogEvent.CallerFrameValue.from(
-                    StackTraces.earliestCallerOfAny(logServiceClassNames))
-                : null)
-        .build());
+    logEventWriter.write(
+        loggerId.loggerName(),
+        loggerId.logSeverity(),
+        throwable,
+        message,
+        arguments,
+        logEventWriter.requiresCallerDetail(loggerId.logSeverity())
+            ? LogEvent.CallerFrameValue.from(StackTraces.callerOf(logServiceClassNames))
+            : null);
   }
 }
@@ -27,22 +27,124 @@ package elf4j.engine.logging;
 
 import elf4j.Level;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.CopyOnWriteMdcAdapter;
 
-/** Source data to be rendered to a final log message */
-public record LogEvent(
-    Instant timestamp,
-    String loggerName,
-    Level level,
-    @Nullable Throwable throwable,
-    @Nullable Object message,
-    Object @Nullable [] arguments,
-    CallerThreadValue callerThread,
-    LogEvent.@Nullable CallerFrameValue callerFrame) {
-  private static final int INIT_ARG_LENGTH = 32;
+/**
+ * Source data to be rendered to a final log message
+ *
+ * @implNote The resolved message is memoized on the event, so it is resolved at most once no matter
+ *     how many writers and patterns render it. The memoization is an intentionally unsynchronized
+ *     "racy single-check": concurrent renderings may each resolve the message, but always to an
+ *     equal immutable {@link String}, safely published as such.
+ *     <p>An event is effectively immutable, except when it is a slot of a
+ *     {@link LogEventRingBuffer}: such an event, a {@link ReusableLogEvent}, is refilled in place
+ *     for a later log call once all the writers have returned from writing it, and is therefore
+ *     only equal to itself.
+ *     <p>The MDC context of the caller thread is captured into the event as an immutable snapshot
+ *     when the event is created on the caller thread, and is rendered from the event rather than
+ *     from the MDC of the writing thread.
+ */
+@ToString(exclude = "resolvedMessage")
+@EqualsAndHashCode(exclude = "resolvedMessage")
+public sealed class LogEvent permits ReusableLogEvent {
+  private static final CallerThreadValue NO_CALLER_THREAD = new CallerThreadValue("", -1);
+
+  private long timestampNanos;
+  private String loggerName;
+  private Level level;
+  private @Nullable Throwable throwable;
+  private @Nullable Object message;
+  private Object @Nullable [] arguments;
+  private CallerThreadValue callerThread;
+  private LogEvent.@Nullable CallerFrameValue callerFrame;
+  private Map<String, @Nullable String> context;
+
+  private @Nullable String resolvedMessage;
+
+  /** Creates a blank event to be reused as a slot of a {@link LogEventRingBuffer} */
+  LogEvent() {
+    this(0L, "", Level.OFF, null, null, null, NO_CALLER_THREAD, null, Collections.emptyMap());
+  }
+
+  /**
+   * @param timestampNanos time of the event in nanoseconds since the epoch
+   * @param context immutable snapshot of the caller thread's MDC context
+   */
+  public LogEvent(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame,
+      Map<String, @Nullable String> context) {
+    this.timestampNanos = timestampNanos;
+    this.loggerName = loggerName;
+    this.level = level;
+    this.throwable = throwable;
+    this.message = message;
+    this.arguments = arguments;
+    this.callerThread = callerThread;
+    this.callerFrame = callerFrame;
+    this.context = context;
+  }
+
+  /**
+   * Creates an event with the MDC context of the current thread, which is expected to be the caller
+   * thread.
+   *
+   * @param timestampNanos time of the event in nanoseconds since the epoch
+   */
+  public LogEvent(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    this(
+        timestampNanos,
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame,
+        CopyOnWriteMdcAdapter.contextSnapshot());
+  }
+
+  public LogEvent(
+      Instant timestamp,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    this(
+        timestamp.getEpochSecond() * LogEventClock.NANOS_PER_SECOND + timestamp.getNano(),
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame);
+  }
 
   @Builder
   public LogEvent(
@@ -54,48 +156,131 @@ public record LogEvent(
       CallerThreadValue callerThread,
       LogEvent.@Nullable CallerFrameValue callerFrame) {
     this(
-        Instant.now(), loggerName, level, throwable, message, arguments, callerThread, callerFrame);
+        LogEventClock.PRECISE.epochNanos(),
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame);
   }
 
-  private static CharSequence resolve(
+  /** Refills this slot event with the detail of a new log call */
+  void reset(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame,
+      Map<String, @Nullable String> context) {
+    this.timestampNanos = timestampNanos;
+    this.loggerName = loggerName;
+    this.level = level;
+    this.throwable = throwable;
+    this.message = message;
+    this.arguments = arguments;
+    this.callerThread = callerThread;
+    this.callerFrame = callerFrame;
+    this.context = context;
+    this.resolvedMessage = null;
+  }
+
+  /** Releases the references this slot event holds to the detail of the last log call */
+  void clear() {
+    this.throwable = null;
+    this.message = null;
+    this.arguments = null;
+    this.callerFrame = null;
+    this.context = Collections.emptyMap();
+    this.resolvedMessage = null;
+  }
+
+  private static String resolve(
       @Nullable final Object message, final Object @Nullable [] arguments) {
-    String suppliedMessage = Objects.toString(supply(message));
+    Object suppliedMessage = supply(message);
     if (message == null || arguments == null || arguments.length == 0) {
-      return suppliedMessage;
-    }
-    StringBuilder resolvedMessage = new StringBuilder(suppliedMessage.length() + INIT_ARG_LENGTH);
-    int messageIndex = 0;
-    int argumentIndex = 0;
-    while (messageIndex < suppliedMessage.length()) {
-      if (atPlaceHolder(messageIndex, suppliedMessage) && !exceedsBound(argumentIndex, arguments)) {
-        resolvedMessage.append(supply(arguments[argumentIndex]));
-        argumentIndex += 1;
-        messageIndex += 2;
-      } else {
-        resolvedMessage.append(suppliedMessage.charAt(messageIndex));
-        messageIndex += 1;
-      }
+      return Objects.toString(suppliedMessage);
     }
-    return resolvedMessage;
+    MessageTemplate messageTemplate = message instanceof String format
+        ? MessageTemplate.of(format)
+        : MessageTemplate.parse(Objects.toString(suppliedMessage));
+    return messageTemplate.format(arguments, LogEvent::supply);
   }
 
-  private static boolean atPlaceHolder(final int index, final String message) {
-    if (exceedsLength(index + 1, message)) {
-      return false;
-    }
-    return '{' == message.charAt(index) && '}' == message.charAt(index + 1);
+  private static @Nullable Object supply(@Nullable Object o) {
+    return o instanceof Supplier<?> ? ((Supplier<?>) o).get() : o;
   }
 
-  private static boolean exceedsLength(final int index, final String message) {
-    return index >= message.length();
+  /** @return time of the event, created from {@link #timestampNanos()} */
+  public Instant timestamp() {
+    return Instant.ofEpochSecond(0, timestampNanos);
   }
 
-  private static boolean exceedsBound(final int index, final Object[] arguments) {
-    return index >= arguments.length;
+  /**
+   * @return time of the event in nanoseconds since the epoch, at the precision of the configured
+   *     {@link LogEventClock}
+   */
+  public long timestampNanos() {
+    return timestampNanos;
   }
 
-  private static @Nullable Object supply(@Nullable Object o) {
-    return o instanceof Supplier<?> ? ((Supplier<?>) o).get() : o;
+  public String loggerName() {
+    return loggerName;
+  }
+
+  public Level level() {
+    return level;
+  }
+
+  public @Nullable Throwable throwable() {
+    return throwable;
+  }
+
+  public @Nullable Object message() {
+    return message;
+  }
+
+  public Object @Nullable [] arguments() {
+    return arguments;
+  }
+
+  public CallerThreadValue callerThread() {
+    return callerThread;
+  }
+
+  public LogEvent.@Nullable CallerFrameValue callerFrame() {
+    return callerFrame;
+  }
+
+  /** @return immutable snapshot of the caller thread's MDC context at the time of the log call */
+  public Map<String, @Nullable String> context() {
+    return context;
+  }
+
+  /**
+   * @return this event if it has no caller frame, otherwise an immutable copy of it without the
+   *     caller frame, e.g. for a writer that only renders caller detail from a higher level
+   */
+  public LogEvent withoutCallerFrame() {
+    if (callerFrame == null) {
+      return this;
+    }
+    LogEvent copy = new LogEvent(
+        timestampNanos,
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        null,
+        context);
+    copy.resolvedMessage = resolvedMessage;
+    return copy;
   }
 
   /**
@@ -105,7 +290,12 @@ public record LogEvent(
    * @return the resolved log message
    */
   public CharSequence getResolvedMessage() {
-    return resolve(this.message, this.arguments);
+    String resolved = resolvedMessage;
+    if (resolved == null) {
+      resolved = resolve(this.message, this.arguments);
+      resolvedMessage = resolved;
+    }
+    return resolved;
   }
 
   /** A renderable value representing a call stack element. */
@@ -120,6 +310,44 @@ public record LogEvent(
     }
   }
 
-  /** Represents the value of a thread. */
-  public record CallerThreadValue(String name, long id) {}
+  /**
+   * Represents the value of a thread.
+   *
+   * @implNote The value of the current thread is cached rather than rebuilt on every log call: per
+   *     platform thread in a {@link ThreadLocal}; for virtual threads, which are often short-lived
+   *     and numerous, in a small table indexed by thread ID instead, so as not to populate a
+   *     thread-local map per virtual thread. A cached value is reused only if the thread name is
+   *     still the same {@link String} instance, which detects renames with a reference comparison.
+   */
+  public record CallerThreadValue(String name, long id) {
+    private static final ThreadLocal<@Nullable CallerThreadValue> PLATFORM_THREAD_VALUE =
+        new ThreadLocal<>();
+    private static final int VIRTUAL_THREAD_VALUES_SIZE = 1 << 10;
+    private static final @Nullable CallerThreadValue[] VIRTUAL_THREAD_VALUES =
+        new CallerThreadValue[VIRTUAL_THREAD_VALUES_SIZE];
+
+    /** @return the value of the current thread */
+    public static CallerThreadValue ofCurrentThread() {
+      Thread thread = Thread.currentThread();
+      String name = thread.getName();
+      long id = thread.threadId();
+      if (thread.isVirtual()) {
+        int slot = (int) id & (VIRTUAL_THREAD_VALUES_SIZE - 1);
+        CallerThreadValue cached = VIRTUAL_THREAD_VALUES[slot];
+        if (cached != null && cached.id == id && cached.name == name) {
+          return cached;
+        }
+        CallerThreadValue current = new CallerThreadValue(name, id);
+        VIRTUAL_THREAD_VALUES[slot] = current;
+        return current;
+      }
+      CallerThreadValue cached = PLATFORM_THREAD_VALUE.get();
+      if (cached != null && cached.name == name) {
+        return cached;
+      }
+      CallerThreadValue current = new CallerThreadValue(name, id);
+      PLATFORM_THREAD_VALUE.set(current);
+      return current;
+    }
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
+
+/**
+ * Source of the timestamps of log events, selectable by the {@code clock} configuration property:
+ * either one of the built-in clocks {@code precise} (default), {@code millis}, and {@code cached};
+ * or the fully qualified name of a custom implementation class with an accessible no-arg
+ * constructor.
+ */
+@FunctionalInterface
+public interface LogEventClock {
+  long NANOS_PER_MILLI = 1_000_000L;
+  long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The system clock at its full precision, usually microseconds */
+  LogEventClock PRECISE = () -> {
+    Instant now = Instant.now();
+    return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+  };
+
+  /** The system clock at millisecond precision */
+  LogEventClock MILLIS = () -> System.currentTimeMillis() * NANOS_PER_MILLI;
+
+  /**
+   * @param configurationProperties entire configuration
+   * @return the configured clock
+   */
+  static LogEventClock from(ConfigurationProperties configurationProperties) {
+    String clock = configurationProperties.properties().getProperty(ConfigurationProperties.CLOCK);
+    if (isNullOrEmpty(clock)) {
+      return PRECISE;
+    }
+    return switch (clock.strip().toLowerCase()) {
+      case "precise" -> PRECISE;
+      case "millis" -> MILLIS;
+      case "cached" -> CachedLogEventClock.start();
+      default -> {
+        try {
+          yield (LogEventClock)
+              Class.forName(clock.strip()).getDeclaredConstructor().newInstance();
+        } catch (InstantiationException
+            | IllegalAccessException
+            | InvocationTargetException
+            | NoSuchMethodException
+            | ClassNotFoundException e) {
+          throw new IllegalArgumentException(
+              "Error instantiating log event clock class '%s'".formatted(clock), e);
+        }
+      }
+    };
+  }
+
+  /** @return current time in nanoseconds since the epoch, at the precision of this clock */
+  long epochNanos();
+}
@@ -0,0 +1,434 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A preallocated ring of reusable log event slots, as a garbage-free alternative to allocating a
+ * new {@link LogEvent} per log call. Caller threads claim a slot by sequence number, fill it in
+ * place, and publish it; a single consumer thread hands the published events, in sequence order and
+ * in batches of up to the configured batch size, to the batch consumer, and then releases their
+ * slots for reuse.
+ *
+ * <p>Argument lifetime contract: A log call only stores references of its message and arguments
+ * into the claimed slot; they are rendered later on the consumer thread. Thus, the caller must not
+ * mutate a message or argument object after the log call. Meanwhile, the batch and the events
+ * handed to the batch consumer are reused once the consumer returns; the consumer, e.g. a writer,
+ * must not retain any reference to the batch, its events, or their resolved messages beyond the
+ * call.
+ *
+ * <p>How an idle consumer waits for the next event, and a caller for a free slot, is per the
+ * configured {@link WaitStrategy}, trading CPU usage for latency.
+ *
+ * @implNote When all slots are occupied, callers wait for the consumer to free up the slot they
+ *     claimed, i.e. the ring applies back-pressure instead of allocating or dropping; only the
+ *     consumer itself is never made to wait, as it alone frees the slots. The claim and the
+ *     consumed sequences are each padded to a cache line of their own, as the former is updated by
+ *     all the callers and the latter by the consumer. A parked consumer is woken up only by the
+ *     caller that publishes the very event it waits for, rather than by every caller publishing
+ *     meanwhile.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class LogEventRingBuffer {
+  private static final Logger LOGGER = UtilLogger.ERROR;
+  private static final int MAX_SPINS = 1 << 7;
+  private static final int MAX_YIELDS = 1 << 10;
+  private static final long MAX_PARK_NANOS = Duration.ofMillis(10).toNanos();
+
+  private final Slot[] slots;
+  private final int mask;
+
+  /** Per slot, the sequence number of the last event published into it */
+  private final AtomicLongArray publishedSequences;
+
+  /** The sequence number to be claimed by the next log call */
+  private final PaddedSequence claimSequence = new PaddedSequence(0);
+
+  /** The number of events fully consumed and released for reuse */
+  private final PaddedSequence consumedCount = new PaddedSequence(0);
+
+  private final int batchSize;
+
+  @ToString.Include
+  private final WaitStrategy waitStrategy;
+
+  private final Consumer<List<LogEvent>> batchConsumer;
+  private final Thread consumerThread;
+
+  /** Only used by the {@link WaitStrategy#BLOCKING} strategy */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition published = lock.newCondition();
+
+  /** Sequence number of the event that the parked consumer waits for, or -1 if not parked */
+  private volatile long consumerAwaitedSequence = -1;
+
+  private volatile boolean stopped;
+
+  /**
+   * Log calls discarded: by the consumer thread itself on a full ring, or after the ring is stopped
+   */
+  private final LongAdder droppedCount = new LongAdder();
+
+  /** Set when a stop has timed out, for the consumer to quit without the rest of the events */
+  private volatile boolean abandoned;
+
+  private LogEventRingBuffer(
+      int capacity,
+      int batchSize,
+      WaitStrategy waitStrategy,
+      Consumer<List<LogEvent>> batchConsumer) {
+    int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    this.slots = new Slot[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = new Slot();
+    }
+    this.mask = size - 1;
+    this.publishedSequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      publishedSequences.set(i, -1);
+    }
+    this.batchSize = Math.max(1, Math.min(batchSize, size));
+    this.waitStrategy = waitStrategy;
+    this.batchConsumer = batchConsumer;
+    this.consumerThread = Thread.ofPlatform()
+        .name("elf4j-log-event-ring")
+        .daemon(true)
+        .unstarted(this::consumeUntilStopped);
+  }
+
+  /**
+   * @param capacity minimum number of slots, rounded up to a power of two
+   * @param batchSize max number of published events handed to the batch consumer at a time
+   * @param waitStrategy of the consumer waiting for published events, and of the callers waiting
+   *     for free slots
+   * @param batchConsumer to consume each batch of published events, e.g. by writing them out
+   * @return a started ring buffer
+   */
+  public static LogEventRingBuffer start(
+      int capacity,
+      int batchSize,
+      WaitStrategy waitStrategy,
+      Consumer<List<LogEvent>> batchConsumer) {
+    LogEventRingBuffer logEventRingBuffer =
+        new LogEventRingBuffer(capacity, batchSize, waitStrategy, batchConsumer);
+    logEventRingBuffer.consumerThread.start();
+    return logEventRingBuffer;
+  }
+
+  /**
+   * Fills the next slot with the detail of a log call, and publishes it to the consumer. After the
+   * ring is stopped, the detail is discarded. The detail of a log call by the consumer thread
+   * itself, e.g. from a writer, is discarded too if the ring is full, rather than waiting for a
+   * slot only the consumer can free. The discarded calls are counted.
+   *
+   * @param context immutable snapshot of the MDC context of the log call, which is not necessarily
+   *     the context of the publishing thread, e.g. for a log call replayed by the flight recorder
+   */
+  public void publish(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      LogEvent.CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame,
+      Map<String, @Nullable String> context) {
+    if (stopped) {
+      droppedCount.increment();
+      return;
+    }
+    long sequence;
+    if (Thread.currentThread() == consumerThread) {
+      sequence = claimFreeSequence();
+      if (sequence < 0) {
+        droppedCount.increment();
+        return;
+      }
+    } else {
+      sequence = claimSequence.getAndIncrement();
+      if (!awaitFreeSlot(sequence)) {
+        droppedCount.increment();
+        return;
+      }
+    }
+    int index = (int) sequence & mask;
+    Slot slot = slots[index];
+    slot.logEvent.reset(
+        timestampNanos,
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame,
+        context);
+    publishedSequences.set(index, sequence);
+    if (consumerAwaitedSequence == sequence) {
+      wakeUpConsumer();
+    }
+  }
+
+  /**
+   * Stops accepting log calls, and waits for the consumer to finish all the events already
+   * published.
+   *
+   * @param timeout max time to wait for the consumer to finish
+   * @return true if the consumer finished within the timeout
+   */
+  public boolean stop(Duration timeout) {
+    stopped = true;
+    wakeUpConsumer();
+    try {
+      return consumerThread.join(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * @return the number of the events claimed and not yet consumed, including those of the log calls
+   *     still waiting for a free slot
+   */
+  public long pendingCount() {
+    return Math.max(0, claimSequence.get() - consumedCount.get());
+  }
+
+  /** @return the number of the events consumed so far */
+  public long consumedCount() {
+    return consumedCount.get();
+  }
+
+  /**
+   * Stops the consumer, e.g. after a stop has timed out, once done with the batch at hand; the rest
+   * of the events are discarded.
+   *
+   * @return the number of the events discarded
+   */
+  public long abandon() {
+    stopped = true;
+    abandoned = true;
+    wakeUpConsumer();
+    return pendingCount();
+  }
+
+  /** @return the number of the log calls discarded so far, see {@link #publish} */
+  public long droppedCount() {
+    return droppedCount.sum();
+  }
+
+  @ToString.Include
+  public int capacity() {
+    return slots.length;
+  }
+
+  /**
+   * Claims a sequence for the consumer thread itself, e.g. logging from a writer, only if its slot
+   * is free: the consumer must not wait for a slot that only it can free. As only the consumer
+   * advances the consumed count, a slot found free stays free once the sequence is claimed.
+   *
+   * @return the claimed sequence, or -1 if the ring is full
+   */
+  private long claimFreeSequence() {
+    while (true) {
+      long sequence = claimSequence.get();
+      if (sequence >= consumedCount.get() + slots.length) {
+        return -1;
+      }
+      if (claimSequence.compareAndSet(sequence, sequence + 1)) {
+        return sequence;
+      }
+    }
+  }
+
+  private boolean awaitFreeSlot(long sequence) {
+    int spins = 0;
+    while (sequence >= consumedCount.get() + slots.length) {
+      if (stopped) {
+        return false;
+      }
+      if (spins++ < MAX_SPINS) {
+        Thread.onSpinWait();
+      } else if (waitStrategy == WaitStrategy.SPIN || waitStrategy == WaitStrategy.YIELD) {
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(spins);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Once the consumer quits, for whatever reason, the ring is stopped: no caller is then left
+   * waiting for a free slot that would never be freed.
+   */
+  private void consumeUntilStopped() {
+    try {
+      consumeUntilAbandonedOrDrained();
+    } finally {
+      stopped = true;
+    }
+  }
+
+  private void consumeUntilAbandonedOrDrained() {
+    List<LogEvent> batch = new ArrayList<>(batchSize);
+    long next = 0;
+    int idles = 0;
+    while (!abandoned) {
+      int index = (int) next & mask;
+      if (publishedSequences.get(index) == next) {
+        int count = 0;
+        do {
+          batch.add(slots[(int) (next + count) & mask].logEvent);
+          count++;
+        } while (count < batchSize
+            && publishedSequences.get((int) (next + count) & mask) == next + count);
+        consume(batch);
+        next += count;
+        consumedCount.set(next);
+        idles = 0;
+      } else if (stopped && idles >= MAX_SPINS + MAX_YIELDS) {
+        return;
+      } else {
+        awaitPublished(next, idles++);
+      }
+    }
+  }
+
+  /**
+   * Waits once, per the wait strategy, for the event of the specified sequence to be published. A
+   * stopped ring keeps waiting, without parking, for as many times as an idle consumer would spin
+   * and yield before parking, to let the callers in flight finish publishing.
+   *
+   * @param sequence of the next event to consume
+   * @param idles number of times the consumer has waited for the event so far
+   */
+  private void awaitPublished(long sequence, int idles) {
+    if (idles < MAX_SPINS || waitStrategy == WaitStrategy.SPIN) {
+      Thread.onSpinWait();
+      return;
+    }
+    if (idles < MAX_SPINS + MAX_YIELDS || waitStrategy == WaitStrategy.YIELD || stopped) {
+      Thread.yield();
+      return;
+    }
+    int index = (int) sequence & mask;
+    if (waitStrategy == WaitStrategy.BLOCKING) {
+      lock.lock();
+      try {
+        consumerAwaitedSequence = sequence;
+        if (publishedSequences.get(index) != sequence && !stopped) {
+          published.await(MAX_PARK_NANOS, TimeUnit.NANOSECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        consumerAwaitedSequence = -1;
+        lock.unlock();
+      }
+      return;
+    }
+    consumerAwaitedSequence = sequence;
+    if (publishedSequences.get(index) != sequence && !stopped) {
+      LockSupport.parkNanos(this, MAX_PARK_NANOS);
+    }
+    consumerAwaitedSequence = -1;
+  }
+
+  private void wakeUpConsumer() {
+    if (waitStrategy != WaitStrategy.BLOCKING) {
+      LockSupport.unpark(consumerThread);
+      return;
+    }
+    lock.lock();
+    try {
+      published.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * An error thrown by the batch consumer, e.g. a {@link StackOverflowError} from rendering an
+   * argument, only fails the batch at hand: were it to end the consumer thread, the ring would stop
+   * consuming.
+   */
+  private void consume(List<LogEvent> batch) {
+    try {
+      batchConsumer.accept(batch);
+    } catch (Throwable e) {
+      LOGGER.error("Failed to consume batch of %s log event(s)".formatted(batch.size()), e);
+    } finally {
+      batch.forEach(LogEvent::clear);
+      batch.clear();
+    }
+  }
+
+  /**
+   * How the consumer waits for published events, and the callers wait for free slots. Callers
+   * waiting for a free slot never busy-spin for long: a full ring means the consumer needs the CPU,
+   * so they yield under the {@link #SPIN} and {@link #YIELD} strategies, and park under the others.
+   */
+  public enum WaitStrategy {
+    /**
+     * The consumer busy-spins, for the lowest latency at the cost of a fully occupied CPU core even
+     * when idle
+     */
+    SPIN,
+    /** Spins briefly, then yields the CPU to other threads while waiting */
+    YIELD,
+    /** Spins, then yields for a while, before parking with a timeout */
+    PARK,
+    /**
+     * Spins, then yields for a while, before the consumer waits on a lock condition signalled by
+     * the next caller that publishes, for the least CPU usage when idle
+     */
+    BLOCKING
+  }
+
+  private static final class Slot {
+    final LogEvent logEvent = new ReusableLogEvent();
+  }
+}
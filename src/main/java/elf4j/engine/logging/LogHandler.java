@@ -36,6 +36,14 @@ public interface LogHandler {
    */
   boolean isEnabled(NativeLogger.LoggerId loggerId);
 
+  /**
+   * @return true if the log operations of the specified logger, though not enabled, are still to be
+   *     handed over to be recorded, e.g. in memory to be written only on a later error
+   */
+  default boolean isRecorded(NativeLogger.LoggerId loggerId) {
+    return false;
+  }
+
   /**
    * Service a log operation at the specified severity level for the specified logger.
    *
@@ -35,4 +35,13 @@ public interface LogHandlerFactory {
    * @return the log service
    */
   LogHandler getLogHandler();
+
+  /**
+   * Gets the configuration generation of the current log handler. The generation changes whenever
+   * the log handler is replaced, e.g. upon configuration refresh, so that values derived from the
+   * handler (such as a logger's enablement) can be cached and cheaply checked for staleness.
+   *
+   * @return the generation of the current log handler
+   */
+  long getGeneration();
 }
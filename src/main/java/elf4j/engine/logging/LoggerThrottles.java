@@ -0,0 +1,318 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import static elf4j.engine.logging.configuration.ConfigurationProperties.LEVEL_NAME_DELIMITER;
+import static elf4j.engine.logging.configuration.ConfigurationProperties.RATE;
+import static elf4j.engine.logging.configuration.ConfigurationProperties.SAMPLE;
+
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.configuration.NameSpaceTrie;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sampling and rate limits of log events, configured per logger name space next to the threshold
+ * levels, e.g. {@code sample@com.foo=10} and {@code rate@com.foo=500}, or for all loggers by the
+ * entries without a name space. A limit applies to all the loggers under the most specific name
+ * space it is configured for, together.
+ *
+ * <p>Sampling admits 1-in-N events, e.g. {@code 10}; or the first N events in every interval of
+ * {@code sample.interval.ms}, default to 1000, then 1-in-M, e.g. {@code 100,10}. A rate limit
+ * admits up to the configured number of events per second, in bursts of up to a second's worth, as
+ * a token bucket. Events passing the sampling are then subject to the rate limit. Events at or
+ * above the {@code throttle.exempt.level}, default to WARN, are never throttled.
+ *
+ * @implNote Once a logger name is resolved against the configured name spaces, a decision is
+ *     lock-free and allocation-free. The 1-in-M counts are striped over padded counters by caller
+ *     thread, so the threads of a hot logger do not contend on a single cache line; each stripe
+ *     samples its own count, seeded by its index so that the stripes' first events are sampled
+ *     1-in-M as well, rather than each admitted. The first-N count is shared, but only written
+ *     until it reaches N in an interval. The token bucket is kept as the theoretical arrival time
+ *     of the next event (the generic cell rate algorithm), only compared-and-set when an event is
+ *     admitted; a throttled event only reads it. The throttles resolved are cached by logger name,
+ *     up to a bound, beyond which the names of further loggers, e.g. named dynamically, are
+ *     resolved on each decision.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class LoggerThrottles {
+  private static final Logger LOGGER = UtilLogger.INFO;
+  private static final String ROOT_LOGGER_NAME = "";
+  private static final Level DEFAULT_EXEMPT_LEVEL = Level.WARN;
+  private static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofSeconds(1);
+  private static final int STRIPES =
+      Integer.highestOneBit(Math.min(64, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+  private static final Throttle UNTHROTTLED = new Throttle(null, null);
+  private static final int MAX_CACHED_LOGGER_NAMES = 4096;
+
+  @ToString.Include
+  private final Level exemptLevel;
+
+  @ToString.Include
+  private final NameSpaceTrie<Sampler> samplerIndex;
+
+  @ToString.Include
+  private final NameSpaceTrie<RateLimiter> rateLimiterIndex;
+
+  private final Map<String, Throttle> throttlesByLoggerName = new ConcurrentHashMap<>();
+
+  private LoggerThrottles(
+      Level exemptLevel,
+      NameSpaceTrie<Sampler> samplerIndex,
+      NameSpaceTrie<RateLimiter> rateLimiterIndex) {
+    this.exemptLevel = exemptLevel;
+    this.samplerIndex = samplerIndex;
+    this.rateLimiterIndex = rateLimiterIndex;
+  }
+
+  /**
+   * @param configurationProperties entire configuration
+   * @return the configured throttles, or null if neither sampling nor rate limit is configured
+   * @throws IllegalArgumentException if a sampling or rate limit is malformed
+   */
+  static @Nullable LoggerThrottles from(ConfigurationProperties configurationProperties) {
+    Duration sampleInterval = Optional.ofNullable(
+            configurationProperties.getAsInteger(ConfigurationProperties.SAMPLE_INTERVAL_MS))
+        .map(Duration::ofMillis)
+        .orElse(DEFAULT_SAMPLE_INTERVAL);
+    Map<String, Sampler> samplersByNameSpace =
+        byNameSpace(SAMPLE, configurationProperties, value -> Sampler.parse(value, sampleInterval));
+    Map<String, RateLimiter> rateLimitersByNameSpace =
+        byNameSpace(RATE, configurationProperties, RateLimiter::parse);
+    if (samplersByNameSpace.isEmpty() && rateLimitersByNameSpace.isEmpty()) {
+      return null;
+    }
+    LoggerThrottles loggerThrottles = new LoggerThrottles(
+        Optional.ofNullable(
+                configurationProperties.getAsLevel(ConfigurationProperties.THROTTLE_EXEMPT_LEVEL))
+            .orElse(DEFAULT_EXEMPT_LEVEL),
+        NameSpaceTrie.from(samplersByNameSpace),
+        NameSpaceTrie.from(rateLimitersByNameSpace));
+    LOGGER.info("Specified sampling %s and rate limits %s in %s"
+        .formatted(
+            samplersByNameSpace.keySet(), rateLimitersByNameSpace.keySet(), loggerThrottles));
+    return loggerThrottles;
+  }
+
+  private static <V> Map<String, V> byNameSpace(
+      String name,
+      ConfigurationProperties configurationProperties,
+      Function<String, V> valueParser) {
+    Map<String, V> valuesByNameSpace = new HashMap<>();
+    Properties properties = configurationProperties.properties();
+    for (String propertyName : properties.stringPropertyNames()) {
+      String value = properties.getProperty(propertyName);
+      if (value.isBlank()) {
+        continue;
+      }
+      String key = propertyName.strip();
+      if (key.equals(name)) {
+        valuesByNameSpace.put(ROOT_LOGGER_NAME, valueParser.apply(value.strip()));
+      } else if (key.startsWith(name + LEVEL_NAME_DELIMITER)) {
+        valuesByNameSpace.put(
+            key.split(LEVEL_NAME_DELIMITER, 2)[1].strip(), valueParser.apply(value.strip()));
+      }
+    }
+    return valuesByNameSpace;
+  }
+
+  /**
+   * @param loggerName of the log event
+   * @param level of the log event
+   * @return true if the log event is to be written, false if it is throttled
+   */
+  boolean tryAcquire(String loggerName, Level level) {
+    if (level.compareTo(exemptLevel) >= 0) {
+      return true;
+    }
+    Throttle throttle = throttlesByLoggerName.get(loggerName);
+    if (throttle != null) {
+      return throttle.tryAcquire();
+    }
+    if (throttlesByLoggerName.size() < MAX_CACHED_LOGGER_NAMES) {
+      return throttlesByLoggerName.computeIfAbsent(loggerName, this::resolve).tryAcquire();
+    }
+    return tryAcquire(
+        samplerIndex.getLongestMatch(loggerName), rateLimiterIndex.getLongestMatch(loggerName));
+  }
+
+  private static boolean tryAcquire(@Nullable Sampler sampler, @Nullable RateLimiter rateLimiter) {
+    return (sampler == null || sampler.tryAcquire())
+        && (rateLimiter == null || rateLimiter.tryAcquire());
+  }
+
+  private Throttle resolve(String loggerName) {
+    @Nullable Sampler sampler = samplerIndex.getLongestMatch(loggerName);
+    @Nullable RateLimiter rateLimiter = rateLimiterIndex.getLongestMatch(loggerName);
+    return sampler == null && rateLimiter == null
+        ? UNTHROTTLED
+        : new Throttle(sampler, rateLimiter);
+  }
+
+  private record Throttle(@Nullable Sampler sampler, @Nullable RateLimiter rateLimiter) {
+    boolean tryAcquire() {
+      return LoggerThrottles.tryAcquire(sampler, rateLimiter);
+    }
+  }
+
+  /** Admits the first N events per interval, if any, then 1-in-M */
+  @ToString(onlyExplicitlyIncluded = true)
+  static final class Sampler {
+    @ToString.Include
+    private final long firstCount;
+
+    @ToString.Include
+    private final long everyCount;
+
+    private final long intervalNanos;
+    private final PaddedSequence intervalStart;
+    private final PaddedSequence intervalCount = new PaddedSequence(0);
+    private final PaddedSequence[] stripedCounts = new PaddedSequence[STRIPES];
+
+    Sampler(long firstCount, long everyCount, Duration interval) {
+      this.firstCount = firstCount;
+      this.everyCount = everyCount;
+      this.intervalNanos = interval.toNanos();
+      this.intervalStart = new PaddedSequence(System.nanoTime());
+      for (int i = 0; i < STRIPES; i++) {
+        stripedCounts[i] = new PaddedSequence(i);
+      }
+    }
+
+    /**
+     * @param value either {@code N} for 1-in-N, or {@code N,M} for the first N per interval then
+     *     1-in-M, where M of zero admits none after the first N
+     * @param interval of the first N
+     * @return the sampler
+     */
+    static Sampler parse(String value, Duration interval) {
+      String[] counts = value.split(",", -1);
+      try {
+        if (counts.length == 1) {
+          long everyCount = Long.parseLong(counts[0].strip());
+          if (everyCount > 0) {
+            return new Sampler(0, everyCount, interval);
+          }
+        } else if (counts.length == 2) {
+          long firstCount = Long.parseLong(counts[0].strip());
+          long everyCount = Long.parseLong(counts[1].strip());
+          if (firstCount >= 0 && everyCount >= 0) {
+            return new Sampler(firstCount, everyCount, interval);
+          }
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            "Malformed sampling '%s' - expecting <N> or <first N>,<M>".formatted(value), e);
+      }
+      throw new IllegalArgumentException(
+          "Malformed sampling '%s' - expecting <N> or <first N>,<M>".formatted(value));
+    }
+
+    boolean tryAcquire() {
+      if (firstCount > 0 && tryAcquireFirst()) {
+        return true;
+      }
+      if (everyCount <= 0) {
+        return false;
+      }
+      int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+      return stripedCounts[stripe].getAndIncrement() % everyCount == 0;
+    }
+
+    private boolean tryAcquireFirst() {
+      long now = System.nanoTime();
+      long start = intervalStart.get();
+      if (now - start >= intervalNanos && intervalStart.compareAndSet(start, now)) {
+        intervalCount.set(0);
+      }
+      return intervalCount.get() < firstCount && intervalCount.getAndIncrement() < firstCount;
+    }
+  }
+
+  /** Admits up to a number of events per second, in bursts of up to a second's worth */
+  @ToString(onlyExplicitlyIncluded = true)
+  static final class RateLimiter {
+    @ToString.Include
+    private final long permitsPerSecond;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /** Theoretical arrival time of the next event, were the events arriving at the steady rate */
+    private final PaddedSequence theoreticalArrivalNanos;
+
+    RateLimiter(long permitsPerSecond) {
+      this.permitsPerSecond = permitsPerSecond;
+      this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+      this.burstToleranceNanos = emissionIntervalNanos * (permitsPerSecond - 1);
+      this.theoreticalArrivalNanos = new PaddedSequence(System.nanoTime());
+    }
+
+    /**
+     * @param value number of events per second, greater than zero
+     * @return the rate limiter
+     */
+    static RateLimiter parse(String value) {
+      try {
+        long permitsPerSecond = Long.parseLong(value.strip());
+        if (permitsPerSecond > 0) {
+          return new RateLimiter(permitsPerSecond);
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            "Malformed rate limit '%s' - expecting events per second".formatted(value), e);
+      }
+      throw new IllegalArgumentException(
+          "Malformed rate limit '%s' - expecting events per second".formatted(value));
+    }
+
+    boolean tryAcquire() {
+      long now = System.nanoTime();
+      while (true) {
+        long theoreticalArrival = theoreticalArrivalNanos.get();
+        long arrival = Math.max(theoreticalArrival, now);
+        if (arrival - now > burstToleranceNanos) {
+          return false;
+        }
+        if (theoreticalArrivalNanos.compareAndSet(
+            theoreticalArrival, arrival + emissionIntervalNanos)) {
+          return true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A log message format pre-parsed into the offsets of its {@code {}} placeholders, so that it can
+ * be resolved by bulk-copying the literal segments in between the placeholder arguments.
+ *
+ * @implNote Parsed templates of format strings are cached in a bounded direct-mapped table, keyed
+ *     by the identity of the format {@link String}. Format strings are usually compile-time
+ *     constants and thus interned, so the same instance recurs on every call from the same call
+ *     site. A slot is simply overwritten on collision; as the cached templates are immutable, the
+ *     table needs no synchronization.
+ */
+final class MessageTemplate {
+  private static final int INIT_ARG_LENGTH = 32;
+  private static final int CACHE_SIZE = 1 << 10;
+  private static final @Nullable MessageTemplate[] CACHE = new MessageTemplate[CACHE_SIZE];
+
+  private final String format;
+  private final int[] placeholderOffsets;
+
+  private MessageTemplate(String format, int[] placeholderOffsets) {
+    this.format = format;
+    this.placeholderOffsets = placeholderOffsets;
+  }
+
+  /**
+   * @param format message format to look up by identity
+   * @return the cached template parsed from the same format string instance, or a newly parsed and
+   *     cached template if none is cached
+   */
+  static MessageTemplate of(String format) {
+    int slot = System.identityHashCode(format) & (CACHE_SIZE - 1);
+    MessageTemplate cached = CACHE[slot];
+    if (cached != null && cached.format == format) {
+      return cached;
+    }
+    MessageTemplate parsed = parse(format);
+    CACHE[slot] = parsed;
+    return parsed;
+  }
+
+  /**
+   * @param format message format to parse
+   * @return template with the offsets of all the placeholders in the format
+   */
+  static MessageTemplate parse(String format) {
+    int[] offsets = new int[8];
+    int count = 0;
+    int index = 0;
+    int lastIndex = format.length() - 1;
+    while (index < lastIndex) {
+      if (format.charAt(index) == '{' && format.charAt(index + 1) == '}') {
+        if (count == offsets.length) {
+          offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = index;
+        index += 2;
+      } else {
+        index += 1;
+      }
+    }
+    return new MessageTemplate(format, Arrays.copyOf(offsets, count));
+  }
+
+  /**
+   * @param arguments to replace the placeholders in order; placeholders in excess of the arguments
+   *     are kept as is
+   * @param supplier to obtain the final value of each argument
+   * @return the message with the placeholders replaced by the supplied argument values
+   */
+  String format(Object[] arguments, UnaryOperator<@Nullable Object> supplier) {
+    int placeholderCount = Math.min(placeholderOffsets.length, arguments.length);
+    if (placeholderCount == 0) {
+      return format;
+    }
+    StringBuilder formatted = new StringBuilder(format.length() + INIT_ARG_LENGTH);
+    int literalStart = 0;
+    for (int i = 0; i < placeholderCount; i++) {
+      formatted
+          .append(format, literalStart, placeholderOffsets[i])
+          .append(supplier.apply(arguments[i]));
+      literalStart = placeholderOffsets[i] + 2;
+    }
+    return formatted.append(format, literalStart, format.length()).toString();
+  }
+
+  int placeholderCount() {
+    return placeholderOffsets.length;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A sequence number padded on both sides to a cache line of its own, so that the threads updating
+ * it do not falsely share a cache line with those updating other sequences allocated next to it.
+ *
+ * @implNote The value is the middle element of an array, whose elements are laid out contiguously,
+ *     unlike fields that the JVM is free to reorder.
+ */
+final class PaddedSequence {
+  /** Padding elements on each side of the value, 56 bytes for a cache line of 64 bytes */
+  private static final int PADDING = 7;
+
+  private static final int VALUE = PADDING;
+
+  private final AtomicLongArray paddedValue = new AtomicLongArray(PADDING + 1 + PADDING);
+
+  PaddedSequence(long initialValue) {
+    paddedValue.set(VALUE, initialValue);
+  }
+
+  long get() {
+    return paddedValue.get(VALUE);
+  }
+
+  void set(long value) {
+    paddedValue.set(VALUE, value);
+  }
+
+  long getAndIncrement() {
+    return paddedValue.getAndIncrement(VALUE);
+  }
+
+  boolean compareAndSet(long expectedValue, long newValue) {
+    return paddedValue.compareAndSet(VALUE, expectedValue, newValue);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(get());
+  }
+}
@@ -25,6 +25,8 @@
 
 package elf4j.engine.logging;
 
+import elf4j.Level;
+
 /** Strategies that influence the performance of the log service */
 public interface PerformanceSensitive {
   /**
@@ -36,4 +38,16 @@ public interface PerformanceSensitive {
    * @return true if the log should include caller detail, false otherwise
    */
   boolean requiresCallerDetail();
+
+  /**
+   * Whether log events of the specified level should include caller detail. Caller detail can be
+   * configured to be captured only from a minimum level and up, e.g. only for WARN and ERROR
+   * events; below that level, caller detail is not captured and renders as empty.
+   *
+   * @param level of the log event
+   * @return true if log events of the specified level should include caller detail, false otherwise
+   */
+  default boolean requiresCallerDetail(Level level) {
+    return requiresCallerDetail();
+  }
 }
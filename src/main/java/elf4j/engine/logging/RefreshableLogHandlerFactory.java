@@ -27,6 +27,7 @@ package elf4j.engine.logging;
 import elf4j.engine.logging.configuration.ConfigurationProperties;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -39,6 +40,13 @@ public class RefreshableLogHandlerFactory
   private LogHandler logHandler;
   private final Set<Class<?>> logServiceClasses;
 
+  /**
+   * Bumped after each replacement of the log handler. As it is written after the handler, reading
+   * the generation before the handler ensures the handler is at least as current as the generation
+   * read.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
   /** Constructor for the ConfiguredLogHandlerFactory class. */
   public RefreshableLogHandlerFactory(final Set<Class<?>> logServiceClasses) {
     this.logServiceClasses = logServiceClasses;
@@ -57,9 +65,15 @@ public class RefreshableLogHandlerFactory
     return logHandler;
   }
 
+  @Override
+  public long getGeneration() {
+    return generation.get();
+  }
+
   /** Reloads the log service. */
   private void reload() {
     logHandler = new EventingLogHandler(ConfigurationProperties.byLoading(), logServiceClasses);
+    generation.incrementAndGet();
   }
 
   /**
@@ -70,6 +84,7 @@ public class RefreshableLogHandlerFactory
   private void reset(@Nullable Properties properties) {
     logHandler =
         new EventingLogHandler(ConfigurationProperties.bySetting(properties), logServiceClasses);
+    generation.incrementAndGet();
   }
 
   @Override
@@ -25,6 +25,7 @@
 
 package elf4j.engine.logging.configuration;
 
+import elf4j.Level;
 import elf4j.Logger;
 import elf4j.util.UtilLogger;
 import java.io.IOException;
@@ -37,10 +38,37 @@ public record ConfigurationProperties(@Nullable Properties properties) {
   public static final String PATTERN = "pattern";
   public static final String STREAM = "stream";
   public static final String CONCURRENCY = "concurrency";
+  public static final String CONCURRENCY_MIN = "concurrency.min";
+  public static final String CONCURRENCY_MAX = "concurrency.max";
+  public static final String PRIORITY_LEVEL = "priority.level";
   public static final String WRITER_FACTORIES = "writer.factories";
   public static final String NOOP = "noop";
   public static final String LEVEL = "level";
   public static final String LEVEL_NAME_DELIMITER = "@";
+  public static final String SAMPLE = "sample";
+  public static final String SAMPLE_INTERVAL_MS = "sample.interval.ms";
+  public static final String RATE = "rate";
+  public static final String THROTTLE_EXEMPT_LEVEL = "throttle.exempt.level";
+  public static final String CALLER_DETAIL_LEVEL = "caller.detail.level";
+  public static final String MODE = "mode";
+  public static final String RING_SIZE = "ring.size";
+  public static final String RING_WAIT = "ring.wait";
+  public static final String CLOCK = "clock";
+  public static final String QUEUE_CAPACITY = "queue.capacity";
+  public static final String QUEUE_OVERFLOW = "queue.overflow";
+  public static final String QUEUE_OVERFLOW_LEVEL = "queue.overflow.level";
+  public static final String QUEUE_THREADS = "queue.threads";
+  public static final String ORDER_KEY = "order.key";
+  public static final String ORDER_KEY_CONTEXT = "order.key.context";
+  public static final String BATCH_SIZE = "batch.size";
+  public static final String BATCH_LINGER_MS = "batch.linger.ms";
+  public static final String SUPPRESS_WINDOW_MS = "suppress.window.ms";
+  public static final String SUPPRESS_MAX_KEYS = "suppress.max.keys";
+  public static final String RECORDER_SIZE = "recorder.size";
+  public static final String RECORDER_MAX_KEYS = "recorder.max.keys";
+  public static final String RECORDER_CONTEXT = "recorder.context";
+  public static final String RECORDER_LEVEL = "recorder.level";
+  public static final String RECORDER_FLUSH_LEVEL = "recorder.flush.level";
 
   private static final Logger LOGGER = UtilLogger.INFO;
 
@@ -90,6 +118,20 @@ public record ConfigurationProperties(@Nullable Properties properties) {
     return value.startsWith("-") ? -i : i;
   }
 
+  /**
+   * @param name full key in properties
+   * @return Level value of the specified name in the given properties, null if named entry missing
+   *     or blank
+   * @throws IllegalArgumentException if the value is not a level name
+   */
+  public @Nullable Level getAsLevel(String name) {
+    String value = properties().getProperty(name);
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    return Level.valueOf(value.strip().toUpperCase());
+  }
+
   /**
    * Gets properties.
    *
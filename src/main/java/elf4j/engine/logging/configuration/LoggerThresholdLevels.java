@@ -31,9 +31,7 @@ import static elf4j.engine.logging.configuration.ConfigurationProperties.LEVEL_N
 import elf4j.Level;
 import elf4j.Logger;
 import elf4j.util.UtilLogger;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -43,19 +41,18 @@ import java.util.stream.Collectors;
  * Manages the threshold output levels for the named logger instances. It allows for overriding the
  * default threshold output level of the root or specific logger instances based on the provided
  * configuration properties.
+ *
+ * @param loggerMinimumThresholdLevels threshold levels keyed by the configured logger name spaces
+ * @param thresholdLevelIndex the same threshold levels, indexed for the lookup by logger name
  */
 public record LoggerThresholdLevels(
-    Map<String, Level> loggerMinimumThresholdLevels, List<String> sortedLoggerNameNameSpaces) {
+    Map<String, Level> loggerMinimumThresholdLevels, NameSpaceTrie<Level> thresholdLevelIndex) {
   private static final Logger LOGGER = UtilLogger.INFO;
   private static final String ROOT_LOGGER_NAME = "";
   private static final Level DEFAULT_THRESHOLD_OUTPUT_LEVEL = Level.TRACE;
 
   public LoggerThresholdLevels(Map<String, Level> loggerMinimumThresholdLevels) {
-    this(
-        loggerMinimumThresholdLevels,
-        loggerMinimumThresholdLevels.keySet().stream()
-            .sorted(new FullyQualifiedClassNameComparator())
-            .collect(Collectors.toList()));
+    this(loggerMinimumThresholdLevels, NameSpaceTrie.from(loggerMinimumThresholdLevels));
     int count = loggerMinimumThresholdLevels.size();
     if (LOGGER.isInfoEnabled()) {
       LOGGER.info("Specified %d logger minimum threshold level%s in %s"
@@ -86,42 +83,13 @@ public record LoggerThresholdLevels(
         : Optional.of(Level.valueOf(thresholdLevelValue.strip().toUpperCase()));
   }
 
+  /**
+   * @param loggerName fully qualified name of the logger
+   * @return the threshold level configured for the most specific name space of the logger name, or
+   *     the default threshold level if none is configured
+   */
   public Level getLoggerThresholdLevel(String loggerName) {
-    return this.sortedLoggerNameNameSpaces.stream()
-        .filter(loggerName::startsWith)
-        .findFirst()
-        .map(this.loggerMinimumThresholdLevels::get)
-        .orElse(DEFAULT_THRESHOLD_OUTPUT_LEVEL);
-  }
-
-  static class FullyQualifiedClassNameComparator implements Comparator<String> {
-    private static int getPackageLevels(String fqcn) {
-      return fqcn.split("\\.").length;
-    }
-
-    static final Comparator<String> BY_LENGTH_REVERSED =
-        Comparator.comparingInt(String::length).reversed();
-
-    /**
-     * Compares two class name spaces. More specific name space goes first.
-     *
-     * @param fqcn1 can be fqcn or just package name
-     * @param fqcn2 can be fqcn or just package name
-     * @return a negative integer, zero, or a positive integer as the first argument is less than,
-     *     equal to, or greater than the second.
-     * @implNote This comparator imposes ordering that is inconsistent with
-     *     {@link String#equals(Object)}.
-     */
-    @Override
-    public int compare(String fqcn1, String fqcn2) {
-      int byPackageLevel = Comparator.comparingInt(
-              FullyQualifiedClassNameComparator::getPackageLevels)
-          .reversed()
-          .compare(fqcn1, fqcn2);
-      if (byPackageLevel != 0) return byPackageLevel;
-      int byLength = BY_LENGTH_REVERSED.compare(fqcn1, fqcn2);
-      if (byLength != 0) return byLength;
-      return fqcn1.compareTo(fqcn2);
-    }
+    Level thresholdLevel = thresholdLevelIndex.getLongestMatch(loggerName);
+    return thresholdLevel == null ? DEFAULT_THRESHOLD_OUTPUT_LEVEL : thresholdLevel;
   }
 }
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable index of values configured per logger name space, e.g. the threshold levels
+ * configured by the {@code level@<name space>} entries. The index is a trie keyed on name space
+ * segments, so that looking up the value applicable to a logger name is a single walk down the
+ * segments of that name, regardless of how many name spaces are configured.
+ *
+ * <p>A name space matches a logger name only at segment boundaries: segments are delimited by
+ * {@code '.'} (package and class names) or {@code '$'} (nested class names). That is, name space
+ * {@code com.foo} matches logger names {@code com.foo}, {@code com.foo.Bar}, and
+ * {@code com.foo.Bar$Baz}, but not {@code com.foobar}. The empty name space is the root, matching
+ * all logger names.
+ *
+ * @implNote Once built, each node's children are also laid out in an open-addressed table, probed
+ *     by the hash of a segment's character range in the looked-up name, so that a lookup does not
+ *     allocate a substring per segment.
+ * @param <V> type of the configured values
+ */
+@EqualsAndHashCode
+public final class NameSpaceTrie<V> {
+  private final Node<V> root = new Node<>();
+
+  @EqualsAndHashCode.Exclude
+  private int size;
+
+  private NameSpaceTrie() {}
+
+  /**
+   * @param valuesByNameSpace values keyed by the name spaces they are configured for
+   * @return the index of the specified values
+   * @param <V> type of the configured values
+   */
+  public static <V> NameSpaceTrie<V> from(Map<String, V> valuesByNameSpace) {
+    NameSpaceTrie<V> nameSpaceTrie = new NameSpaceTrie<>();
+    valuesByNameSpace.forEach(nameSpaceTrie::put);
+    nameSpaceTrie.root.freeze();
+    return nameSpaceTrie;
+  }
+
+  private static boolean isDelimiter(char c) {
+    return c == '.' || c == '$';
+  }
+
+  private static int segmentEnd(String name, int segmentStart) {
+    int end = segmentStart;
+    while (end < name.length() && !isDelimiter(name.charAt(end))) {
+      end++;
+    }
+    return end;
+  }
+
+  /** Same as {@link String#hashCode()} of the specified range, spread over the lower bits */
+  private static int hash(String name, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + name.charAt(i);
+    }
+    return h ^ (h >>> 16);
+  }
+
+  private void put(String nameSpace, V value) {
+    Node<V> node = root;
+    for (int start = 0; start < nameSpace.length(); ) {
+      int end = segmentEnd(nameSpace, start);
+      if (end > start) {
+        node = node.children.computeIfAbsent(nameSpace.substring(start, end), k -> new Node<>());
+      }
+      start = end + 1;
+    }
+    if (node.value == null) {
+      size++;
+    }
+    node.value = value;
+  }
+
+  /**
+   * @param name the fully qualified logger name to look up
+   * @return the value configured for the most specific name space that matches the specified name,
+   *     or {@code null} if no configured name space matches
+   */
+  public @Nullable V getLongestMatch(String name) {
+    Node<V> node = root;
+    V match = root.value;
+    for (int start = 0; start < name.length(); ) {
+      int end = segmentEnd(name, start);
+      if (end > start) {
+        node = node.child(name, start, end);
+        if (node == null) {
+          break;
+        }
+        if (node.value != null) {
+          match = node.value;
+        }
+      }
+      start = end + 1;
+    }
+    return match;
+  }
+
+  /** @return the number of configured name spaces */
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "NameSpaceTrie{size=" + size + "}";
+  }
+
+  @EqualsAndHashCode
+  private static final class Node<V> {
+    final Map<String, Node<V>> children = new HashMap<>();
+
+    @Nullable V value;
+
+    /** Keys of the children's open-addressed table, absent if no children */
+    @EqualsAndHashCode.Exclude
+    String @Nullable [] segments;
+
+    @EqualsAndHashCode.Exclude
+    @Nullable Node<V>[] childNodes;
+
+    /** Lays out the children, recursively, in the open-addressed tables probed by lookups */
+    @SuppressWarnings("unchecked")
+    void freeze() {
+      if (children.isEmpty()) {
+        return;
+      }
+      int capacity = Integer.highestOneBit(2 * children.size() - 1) << 1;
+      int mask = capacity - 1;
+      String[] keys = new String[capacity];
+      Node<V>[] nodes = new Node[capacity];
+      children.forEach((segment, child) -> {
+        int i = hash(segment, 0, segment.length()) & mask;
+        while (keys[i] != null) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = segment;
+        nodes[i] = child;
+        child.freeze();
+      });
+      this.segments = keys;
+      this.childNodes = nodes;
+    }
+
+    /**
+     * @return the child keyed by the specified character range of the name, or {@code null} if none
+     */
+    @Nullable Node<V> child(String name, int start, int end) {
+      String[] keys = segments;
+      if (keys == null) {
+        return null;
+      }
+      int length = end - start;
+      int mask = keys.length - 1;
+      for (int i = hash(name, start, end) & mask; keys[i] != null; i = (i + 1) & mask) {
+        String key = keys[i];
+        if (key.length() == length && name.regionMatches(start, key, 0, length)) {
+          return childNodes[i];
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -4,7 +4,7 @@ import com.google.common.collect.Iterables;
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.pattern.RenderingPattern;
 import java.util.NoSuchElementException;
-import org.slf4j.MDC;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The ContextElement class implements the PatternElement interface and represents a context element
@@ -48,7 +48,7 @@ record ContextPattern(String key) implements RenderingPattern {
    */
   @Override
   public void render(LogEvent logEvent, StringBuilder target) {
-    String value = MDC.get(key);
+    @Nullable String value = logEvent.context().get(key);
     target.append(value == null ? "" : value);
   }
 }
@@ -45,7 +45,6 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
-import org.slf4j.MDC;
 
 record JsonPattern(boolean includeCallerThread, boolean includeCallerDetail, boolean prettyPrint)
     implements RenderingPattern {
@@ -111,7 +110,7 @@ record JsonPattern(boolean includeCallerThread, boolean includeCallerDetail, boo
       LogEvent.@Nullable CallerThreadValue callerThread,
       @Nullable String loggerName,
       LogEvent.@Nullable CallerFrameValue callerDetail,
-      Map<String, String> context,
+      @Nullable Map<String, @Nullable String> context,
       String message,
       @Nullable String exception) {
 
@@ -121,8 +120,8 @@ record JsonPattern(boolean includeCallerThread, boolean includeCallerDetail, boo
           logEvent.level().name(),
           jsonPattern.includeCallerThread ? logEvent.callerThread() : null,
           logEvent.loggerName(),
-          jsonPattern.includeCallerDetail ? Objects.requireNonNull(logEvent.callerFrame()) : null,
-          MDC.getCopyOfContextMap(),
+          jsonPattern.includeCallerDetail ? logEvent.callerFrame() : null,
+          logEvent.context().isEmpty() ? null : logEvent.context(),
           logEvent.getResolvedMessage().toString(),
           logEvent.throwable() == null
               ? null
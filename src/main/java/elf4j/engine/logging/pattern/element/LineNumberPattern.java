@@ -27,7 +27,6 @@ package elf4j.engine.logging.pattern.element;
 
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.pattern.RenderingPattern;
-import java.util.Objects;
 
 record LineNumberPattern() implements RenderingPattern {
   /**
@@ -50,6 +49,9 @@ record LineNumberPattern() implements RenderingPattern {
 
   @Override
   public void render(LogEvent logEvent, StringBuilder target) {
-    target.append(Objects.requireNonNull(logEvent.callerFrame()).lineNumber());
+    LogEvent.CallerFrameValue callerFrame = logEvent.callerFrame();
+    if (callerFrame != null) {
+      target.append(callerFrame.lineNumber());
+    }
   }
 }
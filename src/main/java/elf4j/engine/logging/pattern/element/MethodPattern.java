@@ -27,7 +27,6 @@ package elf4j.engine.logging.pattern.element;
 
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.pattern.RenderingPattern;
-import java.util.Objects;
 
 record MethodPattern() implements RenderingPattern {
   /**
@@ -49,6 +48,9 @@ record MethodPattern() implements RenderingPattern {
 
   @Override
   public void render(LogEvent logEvent, StringBuilder target) {
-    target.append(Objects.requireNonNull(logEvent.callerFrame()).methodName());
+    LogEvent.CallerFrameValue callerFrame = logEvent.callerFrame();
+    if (callerFrame != null) {
+      target.append(callerFrame.methodName());
+    }
   }
 }
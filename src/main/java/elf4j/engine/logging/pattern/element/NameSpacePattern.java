@@ -28,7 +28,7 @@ package elf4j.engine.logging.pattern.element;
 import com.google.common.collect.MoreCollectors;
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.pattern.RenderingPattern;
-import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Delegate pattern to render class name or logger name with display options
@@ -71,14 +71,18 @@ record NameSpacePattern(PatternElementType targetPatternElementType, DisplayOpti
 
   @Override
   public void render(LogEvent logEvent, StringBuilder target) {
-    String fullName =
+    LogEvent.CallerFrameValue callerFrame = logEvent.callerFrame();
+    @Nullable String fullName =
         switch (targetPatternElementType) {
           case LOGGER -> logEvent.loggerName();
-          case CLASS -> Objects.requireNonNull(logEvent.callerFrame()).className();
+          case CLASS -> callerFrame == null ? null : callerFrame.className();
           default ->
             throw new IllegalStateException(
                 "Unexpected name space element type: " + targetPatternElementType);
         };
+    if (fullName == null) {
+      return;
+    }
     switch (displayOption) {
       case FULL -> target.append(fullName);
       case SIMPLE -> target.append(fullName.substring(fullName.lastIndexOf('.') + 1));
@@ -26,7 +26,9 @@
 package elf4j.engine.logging.pattern.element;
 
 import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.LogEventClock;
 import elf4j.engine.logging.pattern.RenderingPattern;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -35,11 +37,27 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-record TimestampPattern(DateTimeFormatter dateTimeFormatter, TimeZoneOption timeZoneOption)
+/**
+ * @param formattedTimestampCache the last formatted timestamp, reused for all the events within the
+ *     same unit of time as far as the pattern can tell, e.g. the same millisecond for the default
+ *     pattern. Formatting from the primitive timestamp of the event otherwise requires creating a
+ *     temporal object.
+ */
+record TimestampPattern(
+    DateTimeFormatter dateTimeFormatter,
+    TimeZoneOption timeZoneOption,
+    FormattedTimestampCache formattedTimestampCache)
     implements RenderingPattern {
   static final DateTimeFormatter DEFAULT_DATE_TIME_FORMAT =
       DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX");
 
+  TimestampPattern(DateTimeFormatter dateTimeFormatter, TimeZoneOption timeZoneOption) {
+    this(
+        dateTimeFormatter,
+        timeZoneOption,
+        new FormattedTimestampCache(precisionNanos(dateTimeFormatter, timeZoneOption.zoneId())));
+  }
+
   /**
    * @param elementPattern text pattern element to convert. E.g. "{timestamp}",
    *     "{timestamp:uuuu-MM-dd HH:mm:ss,UTC}", excluding the surrounding braces
@@ -60,6 +78,24 @@ record TimestampPattern(DateTimeFormatter dateTimeFormatter, TimeZoneOption time
         getTimeZoneOption(elementDisplayOption));
   }
 
+  /**
+   * @return the length of the longest unit of time, among a second, a millisecond, and a
+   *     nanosecond, within which the formatter renders all timestamps the same
+   */
+  private static long precisionNanos(DateTimeFormatter dateTimeFormatter, ZoneId zoneId) {
+    var second = Instant.ofEpochSecond(1_000_000_000L).atZone(zoneId);
+    String formatted = dateTimeFormatter.format(second);
+    if (formatted.equals(
+        dateTimeFormatter.format(second.plusNanos(LogEventClock.NANOS_PER_SECOND - 1)))) {
+      return LogEventClock.NANOS_PER_SECOND;
+    }
+    if (formatted.equals(
+        dateTimeFormatter.format(second.plusNanos(LogEventClock.NANOS_PER_MILLI - 1)))) {
+      return LogEventClock.NANOS_PER_MILLI;
+    }
+    return 1;
+  }
+
   private static TimeZoneOption getTimeZoneOption(List<String> formatOptions) {
     if (formatOptions.size() == 1) {
       return TimeZoneOption.DEFAULT;
@@ -83,7 +119,8 @@ record TimestampPattern(DateTimeFormatter dateTimeFormatter, TimeZoneOption time
         instanceof
         TimestampPattern(
             DateTimeFormatter thatDateTimeFormatter,
-            TimeZoneOption thatTimeZoneOption))) return false;
+            TimeZoneOption thatTimeZoneOption,
+            FormattedTimestampCache ignored))) return false;
     OffsetDateTime now = OffsetDateTime.now();
     return timeZoneOption == thatTimeZoneOption
         && Objects.equals(dateTimeFormatter.format(now), thatDateTimeFormatter.format(now));
@@ -101,17 +138,46 @@ record TimestampPattern(DateTimeFormatter dateTimeFormatter, TimeZoneOption time
 
   @Override
   public void render(LogEvent logEvent, StringBuilder target) {
-    dateTimeFormatter.formatTo(
-        logEvent
-            .timestamp()
-            .atZone(timeZoneOption == TimeZoneOption.UTC ? ZoneOffset.UTC : ZoneId.systemDefault()),
-        target);
+    long timestampNanos = logEvent.timestampNanos();
+    long unit = Math.floorDiv(timestampNanos, formattedTimestampCache.precisionNanos);
+    FormattedTimestamp last = formattedTimestampCache.last;
+    if (last.unit() == unit) {
+      target.append(last.text());
+      return;
+    }
+    String text = dateTimeFormatter.format(
+        Instant.ofEpochSecond(0, timestampNanos).atZone(timeZoneOption.zoneId()));
+    formattedTimestampCache.last = new FormattedTimestamp(unit, text);
+    target.append(text);
   }
 
+  /**
+   * @implNote Shared by all rendering threads without synchronization: a stale read only costs a
+   *     redundant formatting, as the cached entries are immutable.
+   */
+  static final class FormattedTimestampCache {
+    private final long precisionNanos;
+    private volatile FormattedTimestamp last = new FormattedTimestamp(Long.MIN_VALUE, "");
+
+    FormattedTimestampCache(long precisionNanos) {
+      this.precisionNanos = precisionNanos;
+    }
+
+    long precisionNanos() {
+      return precisionNanos;
+    }
+  }
+
+  private record FormattedTimestamp(long unit, String text) {}
+
   enum TimeZoneOption {
     UTC,
     DEFAULT;
 
+    ZoneId zoneId() {
+      return this == UTC ? ZoneOffset.UTC : ZoneId.systemDefault();
+    }
+
     public static TimeZoneOption from(String timeZoneOption) {
       return Arrays.stream(values())
           .filter(v -> v.name().equalsIgnoreCase(timeZoneOption))
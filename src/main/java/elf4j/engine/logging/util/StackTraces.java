@@ -37,9 +37,34 @@ import java.util.stream.Stream;
  * string.
  */
 public class StackTraces {
+  /** Without retaining class references, as only class names are needed for the caller search */
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
   // Private constructor to prevent instantiation of utility class
   private StackTraces() {}
 
+  /**
+   * Returns the caller frame immediately below the most recent (top-most) frames of any of the
+   * specified callee classes. Unlike {@link #earliestCallerOfAny(Set)}, the stack is walked lazily
+   * from the top, and the walk stops as soon as the caller frame is found; the cost is therefore
+   * proportional to the distance of the caller from the top of the stack rather than to the depth
+   * of the entire stack.
+   *
+   * @param calleeClassNames whose caller is being searched for
+   * @return the frame of the latest caller to any of the specified callee classes
+   * @throws NoSuchElementException if none of the callee classes is found in the call stack, or
+   *     there is no caller frame below the callee frames
+   */
+  public static StackWalker.StackFrame callerOf(Set<String> calleeClassNames) {
+    return STACK_WALKER
+        .walk(stackFrames -> stackFrames
+            .dropWhile(stackFrame -> !calleeClassNames.contains(stackFrame.getClassName()))
+            .dropWhile(stackFrame -> calleeClassNames.contains(stackFrame.getClassName()))
+            .findFirst())
+        .orElseThrow(() -> new NoSuchElementException(
+            "No caller found: calleeClassNames='%s'".formatted(calleeClassNames)));
+  }
+
   /**
    * Returns the deepest (earliest in call sequence) caller frame in the stack on any of the
    * specified callee classes
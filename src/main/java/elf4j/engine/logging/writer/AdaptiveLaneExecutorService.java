@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Logger;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.ToString;
+
+/**
+ * Runs each task on a virtual thread of its own, but at most as many tasks at a time as its current
+ * number of lanes. A controller thread adapts the number of lanes, between the configured bounds,
+ * per the backlog of tasks waiting for a lane and the latency of the tasks run.
+ *
+ * <p>Every adapt interval, the lanes grow if the backlog would take longer than an interval to
+ * drain at the current number of lanes and the recent task latency, to as many lanes as would drain
+ * it within an interval; they shrink by one if there is no backlog and the lanes were less than
+ * half busy during the interval.
+ *
+ * @implNote As the worker executor of a {@link conseq4j.execute.ConseqExecutor}, which submits the
+ *     next task of a sequence key only after the previous one completes, the number of lanes does
+ *     not affect the order of the tasks per key.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class AdaptiveLaneExecutorService extends AbstractExecutorService {
+  private static final Logger LOGGER = UtilLogger.INFO;
+
+  @ToString.Include
+  private final int minLanes;
+
+  @ToString.Include
+  private final int maxLanes;
+
+  private final long adaptIntervalNanos;
+  private final ExecutorService virtualThreadExecutor;
+  private final LaneSemaphore lanes;
+  private final AtomicInteger waitingCount = new AtomicInteger();
+  private final LongAdder completedCount = new LongAdder();
+  private final LongAdder busyNanos = new LongAdder();
+  private final Thread controller;
+  private volatile int laneCount;
+  private volatile boolean stopped;
+
+  private AdaptiveLaneExecutorService(int minLanes, int maxLanes, Duration adaptInterval) {
+    this.minLanes = Math.max(1, minLanes);
+    this.maxLanes = Math.max(this.minLanes, maxLanes);
+    this.adaptIntervalNanos = adaptInterval.toNanos();
+    this.virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("elf4j-adaptive-lane-", 0).factory());
+    this.laneCount = this.minLanes;
+    this.lanes = new LaneSemaphore(this.minLanes);
+    this.controller = Thread.ofPlatform()
+        .name("elf4j-adaptive-lane-controller")
+        .daemon(true)
+        .unstarted(this::adaptUntilStopped);
+  }
+
+  /**
+   * @param minLanes min number of tasks run at a time
+   * @param maxLanes max number of tasks run at a time
+   * @param adaptInterval how often the number of lanes is adapted
+   * @return a started executor, with the min number of lanes to begin with
+   */
+  static AdaptiveLaneExecutorService start(int minLanes, int maxLanes, Duration adaptInterval) {
+    AdaptiveLaneExecutorService adaptiveLaneExecutorService =
+        new AdaptiveLaneExecutorService(minLanes, maxLanes, adaptInterval);
+    adaptiveLaneExecutorService.controller.start();
+    return adaptiveLaneExecutorService;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    waitingCount.incrementAndGet();
+    try {
+      virtualThreadExecutor.execute(() -> runInLane(command));
+    } catch (RejectedExecutionException e) {
+      waitingCount.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /** @return the current number of lanes, i.e. the max number of tasks run at a time */
+  @ToString.Include
+  int laneCount() {
+    return laneCount;
+  }
+
+  @Override
+  public void shutdown() {
+    stop();
+    virtualThreadExecutor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    stop();
+    return virtualThreadExecutor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return virtualThreadExecutor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return virtualThreadExecutor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return virtualThreadExecutor.awaitTermination(timeout, unit);
+  }
+
+  private void runInLane(Runnable command) {
+    lanes.acquireUninterruptibly();
+    waitingCount.decrementAndGet();
+    long start = System.nanoTime();
+    try {
+      command.run();
+    } finally {
+      busyNanos.add(System.nanoTime() - start);
+      completedCount.increment();
+      lanes.release();
+    }
+  }
+
+  private void stop() {
+    stopped = true;
+    LockSupport.unpark(controller);
+  }
+
+  private void adaptUntilStopped() {
+    while (!stopped) {
+      LockSupport.parkNanos(this, adaptIntervalNanos);
+      adapt();
+    }
+  }
+
+  private void adapt() {
+    long completed = completedCount.sumThenReset();
+    long busy = busyNanos.sumThenReset();
+    int waiting = waitingCount.get();
+    int current = laneCount;
+    long latencyNanos = completed == 0 ? adaptIntervalNanos : busy / completed;
+    long backlogNanos = waiting * latencyNanos;
+    if (backlogNanos > current * adaptIntervalNanos && current < maxLanes) {
+      int target = (int)
+          Math.min(maxLanes, Math.max(current + 1, Math.ceilDiv(backlogNanos, adaptIntervalNanos)));
+      laneCount = target;
+      lanes.release(target - current);
+      // at debug level, as lanes may grow as often as every adapt interval under fluctuating load
+      LOGGER.debug(
+          () -> "Grew lanes from %s to %s for backlog of %s task(s) with latency of %s ns in %s"
+              .formatted(current, target, waiting, latencyNanos, this));
+    } else if (waiting == 0 && current > minLanes && 2 * busy < current * adaptIntervalNanos) {
+      laneCount = current - 1;
+      lanes.reducePermits(1);
+    }
+  }
+
+  /** Exposes the permit reduction, which takes effect as soon as the permits in use are released */
+  private static final class LaneSemaphore extends Semaphore {
+    LaneSemaphore(int permits) {
+      super(permits);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+      super.reducePermits(reduction);
+    }
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import conseq4j.execute.ConseqExecutor;
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Dispatches in {@link Mode#ASYNC} mode: each log event is written asynchronously to each writer by
+ * a separate task of the async executor, sequenced per the configured {@link LogEventOrder}.
+ *
+ * @implNote The write tasks submitted and not yet finished are counted, so that a stop can await
+ *     them before shutting down the async executors: shut down first, an executor would reject the
+ *     tasks still chained behind the running ones of the same keys.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+class AsyncLogEventDispatcher implements LogEventDispatcher {
+  private static final Logger LOGGER = UtilLogger.INFO;
+  private static final Duration LANE_ADAPT_INTERVAL = Duration.ofMillis(100);
+
+  final List<LogEventWriter> writers;
+
+  @ToString.Include
+  private final LogEventOrder logEventOrder;
+
+  /**
+   * The async executor's concurrency is based on configuration properties. If omitted, the default
+   * concurrency is determined by the <a href="https://q3769.github.io/conseq4j">conseq4j API</a>.
+   */
+  @ToString.Include
+  private final ConseqExecutor conseqExecutor;
+
+  /**
+   * Present only when configured with adaptive concurrency bounds, as the worker executor of the
+   * async executor.
+   */
+  private final @Nullable AdaptiveLaneExecutorService adaptiveLaneExecutorService;
+
+  /** The configured fixed concurrency, if any */
+  private final @Nullable Integer concurrency;
+
+  /** The level at and above which events are written by the priority executor, if any */
+  @ToString.Include
+  private final @Nullable Level priorityLevel;
+
+  /**
+   * Present only when configured with a priority level, to write the events at or above the level
+   * apart from the lower-level backlog. Sized by the same fixed concurrency or adaptive bounds as
+   * the async executor, with lanes of its own.
+   */
+  private final @Nullable ConseqExecutor priorityConseqExecutor;
+
+  @ToString.Include
+  private final PendingTasks pendingTasks = new PendingTasks();
+
+  /**
+   * Set while a stop drains the pending write tasks, during which new log events are dropped rather
+   * than submitted, so that a caller still logging cannot keep the drain from completing; once
+   * stopped, the shut-down executors reject new log events instead
+   */
+  private volatile boolean stopping;
+
+  /** The log events dropped while stopping */
+  private final LongAdder droppedCount = new LongAdder();
+
+  AsyncLogEventDispatcher(
+      List<LogEventWriter> writers,
+      LogEventOrder logEventOrder,
+      ConfigurationProperties configurationProperties) {
+    this.writers = writers;
+    this.logEventOrder = logEventOrder;
+    this.concurrency = configurationProperties.getAsInteger(ConfigurationProperties.CONCURRENCY);
+    this.adaptiveLaneExecutorService = startAdaptiveLaneExecutorService(configurationProperties);
+    this.conseqExecutor = newConseqExecutor(adaptiveLaneExecutorService, concurrency);
+    this.priorityLevel = configurationProperties.getAsLevel(ConfigurationProperties.PRIORITY_LEVEL);
+    this.priorityConseqExecutor = priorityLevel == null
+        ? null
+        : newConseqExecutor(startAdaptiveLaneExecutorService(configurationProperties), concurrency);
+  }
+
+  /**
+   * @return an adaptive executor if either of the adaptive concurrency bounds is configured,
+   *     otherwise null; the min bound defaults to 1, and the max to the number of processors
+   */
+  private static @Nullable AdaptiveLaneExecutorService startAdaptiveLaneExecutorService(
+      ConfigurationProperties configurationProperties) {
+    @Nullable Integer minConcurrency =
+        configurationProperties.getAsInteger(ConfigurationProperties.CONCURRENCY_MIN);
+    @Nullable Integer maxConcurrency =
+        configurationProperties.getAsInteger(ConfigurationProperties.CONCURRENCY_MAX);
+    if (minConcurrency == null && maxConcurrency == null) {
+      return null;
+    }
+    int minLanes = minConcurrency == null ? 1 : minConcurrency;
+    int maxLanes = maxConcurrency == null
+        ? Math.max(minLanes, Runtime.getRuntime().availableProcessors())
+        : maxConcurrency;
+    return AdaptiveLaneExecutorService.start(minLanes, maxLanes, LANE_ADAPT_INTERVAL);
+  }
+
+  /**
+   * @param adaptiveLaneExecutorService to run the tasks in, if configured with adaptive concurrency
+   * @param concurrency the configured fixed concurrency, if any
+   * @return an async executor of the adaptive concurrency if configured, otherwise of the fixed
+   *     concurrency if configured, otherwise of the default concurrency
+   */
+  private static ConseqExecutor newConseqExecutor(
+      @Nullable AdaptiveLaneExecutorService adaptiveLaneExecutorService,
+      @Nullable Integer concurrency) {
+    if (adaptiveLaneExecutorService != null) {
+      return ConseqExecutor.instance(adaptiveLaneExecutorService);
+    }
+    return concurrency == null ? ConseqExecutor.instance() : ConseqExecutor.instance(concurrency);
+  }
+
+  @Override
+  public void dispatch(LogEvent logEvent) {
+    submit(logEvent, executorOf(logEvent), logEventOrder.sequenceKeyOf(logEvent));
+  }
+
+  /**
+   * @param logEvent to write
+   * @param executor to run the write tasks in
+   * @param sequenceKey by which the executor sequences the write tasks
+   */
+  void submit(LogEvent logEvent, ConseqExecutor executor, Object sequenceKey) {
+    for (LogEventWriter writer : writers) {
+      execute(executor, () -> writer.write(logEvent), sequenceKey);
+    }
+  }
+
+  /**
+   * @param executor to run the write task in
+   * @param write task, counted as pending until it finishes
+   * @param sequenceKey by which the executor sequences the task
+   */
+  final void execute(ConseqExecutor executor, Runnable write, Object sequenceKey) {
+    if (stopping) {
+      droppedCount.increment();
+      return;
+    }
+    pendingTasks.submitted();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              write.run();
+            } finally {
+              pendingTasks.finished();
+            }
+          },
+          sequenceKey);
+    } catch (RejectedExecutionException e) {
+      pendingTasks.finished();
+      if (!stopping) {
+        throw e;
+      }
+      // submitted just as the stop shut down the executor
+      droppedCount.increment();
+    } catch (RuntimeException e) {
+      pendingTasks.finished();
+      throw e;
+    }
+  }
+
+  /**
+   * @param logEvent to write
+   * @return the priority executor if the log event is at or above the priority level, otherwise the
+   *     async executor
+   */
+  private ConseqExecutor executorOf(LogEvent logEvent) {
+    if (priorityConseqExecutor != null
+        && priorityLevel != null
+        && logEvent.level().compareTo(priorityLevel) >= 0) {
+      return priorityConseqExecutor;
+    }
+    return conseqExecutor;
+  }
+
+  /**
+   * @return the number of lanes as adapted so far with adaptive concurrency, otherwise the
+   *     configured concurrency, or -1 if none is configured
+   */
+  @Override
+  public int laneCount() {
+    if (adaptiveLaneExecutorService != null) {
+      return adaptiveLaneExecutorService.laneCount();
+    }
+    return concurrency != null ? concurrency : -1;
+  }
+
+  /** @return counts of only the events dropped once stopping */
+  @Override
+  public OverflowCounts overflowCounts() {
+    return new OverflowCounts(droppedCount.sum(), 0, 0);
+  }
+
+  /**
+   * Awaits the pending write tasks before shutting down the async executors. New log events are
+   * dropped meanwhile, and counted as abandoned along with the tasks still pending by the deadline;
+   * once the executors are shut down, new log events are rejected.
+   */
+  @Override
+  public DrainCounts stop(Duration timeout, long deadlineNanos) {
+    if (conseqExecutor.isShutdown()) {
+      return new DrainCounts(0, 0);
+    }
+    LOGGER.info("Stopping %s".formatted(this));
+    List<ConseqExecutor> executors = priorityConseqExecutor == null
+        ? List.of(conseqExecutor)
+        : List.of(priorityConseqExecutor, conseqExecutor);
+    long droppedBefore = droppedCount.sum();
+    stopping = true;
+    long finishedBefore = pendingTasks.finishedCount();
+    long abandoned = pendingTasks.awaitDrained(deadlineNanos);
+    long dropped = droppedCount.sum() - droppedBefore;
+    DrainCounts drainCounts =
+        new DrainCounts(pendingTasks.finishedCount() - finishedBefore, abandoned + dropped);
+    if (abandoned > 0) {
+      LOGGER.warn("Writer executor %s still not drained after %s, abandoned %s write(s)"
+          .formatted(conseqExecutor, timeout, abandoned));
+      executors.forEach(ConseqExecutor::shutdownNow);
+    } else {
+      executors.forEach(ConseqExecutor::shutdown);
+    }
+    stopping = false;
+    try {
+      for (ConseqExecutor executor : executors) {
+        if (!executor.awaitTermination(
+            LogEventDispatcher.remaining(deadlineNanos).toNanos(), TimeUnit.NANOSECONDS)) {
+          LOGGER.warn(
+              "Writer executor %s still not terminated after %s".formatted(executor, timeout));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while stopping %s".formatted(this), e);
+    }
+    LOGGER.info("Stopped %s with drain counts %s".formatted(this, drainCounts));
+    return drainCounts;
+  }
+}
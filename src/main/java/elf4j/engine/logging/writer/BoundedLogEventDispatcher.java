@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * Dispatches in {@link Mode#BOUNDED} mode: each log event is queued into one of a fixed number of
+ * bounded queues, selected by its order key, and written to all the writers by the queue's worker
+ * thread. The queues share the configured total capacity.
+ */
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+final class BoundedLogEventDispatcher extends QueueLogEventDispatcher {
+  @ToString.Include
+  private final LogEventOrder logEventOrder;
+
+  BoundedLogEventDispatcher(
+      List<LogEventWriter> writers,
+      LogEventOrder logEventOrder,
+      ConfigurationProperties configurationProperties) {
+    super(startBoundedLogEventQueues(writers, configurationProperties));
+    this.logEventOrder = logEventOrder;
+  }
+
+  /** @return as many queues as the configured concurrency, default to the number of processors */
+  private static List<BoundedLogEventQueue> startBoundedLogEventQueues(
+      List<LogEventWriter> writers, ConfigurationProperties configurationProperties) {
+    int concurrency = Optional.ofNullable(
+            configurationProperties.getAsInteger(ConfigurationProperties.CONCURRENCY))
+        .orElse(Runtime.getRuntime().availableProcessors());
+    int queueCount = Math.max(1, concurrency);
+    int capacity = Math.ceilDiv(getQueueCapacity(null, configurationProperties), queueCount);
+    List<BoundedLogEventQueue> queues = new ArrayList<>(queueCount);
+    for (int i = 0; i < queueCount; i++) {
+      queues.add(startBoundedLogEventQueue(
+          "elf4j-bounded-queue-" + i,
+          capacity,
+          null,
+          logEvents -> {
+            for (LogEventWriter writer : writers) {
+              writer.write(logEvents);
+            }
+          },
+          configurationProperties));
+    }
+    return queues;
+  }
+
+  @Override
+  public void dispatch(LogEvent logEvent) {
+    boundedLogEventQueues
+        .get(logEventOrder.queueIndexOf(logEvent, boundedLogEventQueues.size()))
+        .offer(logEvent);
+  }
+}
@@ -0,0 +1,382 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowPolicy;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded FIFO queue of log events, drained in order by its own worker thread, either a platform
+ * or a virtual thread. When the queue is full, a newly offered event is handled per the configured
+ * {@link OverflowPolicy}, and counted as such.
+ *
+ * <p>The worker drains the queue in batches of up to the configured batch size, optionally
+ * lingering for more events to fill up a batch, and hands each batch to the event consumer as a
+ * whole.
+ *
+ * <p>Optionally, events at or above a configured priority level are queued in a separate priority
+ * lane of the same capacity, which the worker drains first; a backlog of lower-level events then
+ * neither delays the high-severity events nor, when the queue is full, blocks or drops them. The
+ * events are kept in order within each lane, but a priority event may be written ahead of the
+ * earlier lower-level events of the same caller thread.
+ *
+ * @implNote The queue is guarded by a {@link ReentrantLock} rather than monitors, so neither a
+ *     blocked virtual caller thread nor a waiting virtual worker thread pins its carrier thread.
+ *     The counters are guarded by the same lock, as they only change along with the queue.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class BoundedLogEventQueue {
+  private static final Logger LOGGER = UtilLogger.ERROR;
+
+  @ToString.Include
+  private final String name;
+
+  @ToString.Include
+  private final int capacity;
+
+  @ToString.Include
+  private final OverflowPolicy overflowPolicy;
+
+  private final Level overflowLevel;
+
+  @ToString.Include
+  private final @Nullable Level priorityLevel;
+
+  private final int batchSize;
+  private final long lingerNanos;
+  private final Consumer<List<LogEvent>> batchConsumer;
+  private final ArrayDeque<LogEvent> events;
+  private final ArrayDeque<LogEvent> priorityEvents;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Thread worker;
+  private boolean stopped;
+  private long droppedCount;
+  private long blockedCount;
+  private long writtenSynchronouslyCount;
+
+  private BoundedLogEventQueue(
+      String name,
+      int capacity,
+      OverflowPolicy overflowPolicy,
+      Level overflowLevel,
+      @Nullable Level priorityLevel,
+      int batchSize,
+      Duration linger,
+      Thread.Builder workerThreadBuilder,
+      Consumer<List<LogEvent>> batchConsumer) {
+    this.name = name;
+    this.capacity = Math.max(1, capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.overflowLevel = overflowLevel;
+    this.priorityLevel = priorityLevel;
+    this.batchSize = Math.max(1, batchSize);
+    this.lingerNanos = linger.toNanos();
+    this.batchConsumer = batchConsumer;
+    this.events = new ArrayDeque<>(this.capacity);
+    this.priorityEvents = new ArrayDeque<>();
+    this.worker = workerThreadBuilder.name(name).unstarted(this::consumeUntilStopped);
+  }
+
+  /**
+   * @param name of the queue and its worker thread
+   * @param capacity max number of events in the queue
+   * @param overflowPolicy applied to an event offered when the queue is full
+   * @param overflowLevel the level at and above which events are not dropped by the
+   *     {@link OverflowPolicy#DROP_BELOW_LEVEL} policy
+   * @param priorityLevel the level at and above which events are queued in the priority lane, null
+   *     for no priority lane
+   * @param batchSize max number of events drained from the queue at a time
+   * @param linger max time to wait for more events to fill up a batch, zero not to wait
+   * @param workerThreadBuilder to build the worker thread with, e.g. of a daemon platform thread or
+   *     a virtual thread
+   * @param batchConsumer to consume each batch of queued events, e.g. by writing them out. The
+   *     batch is reused once the consumer returns.
+   * @return a started queue
+   */
+  static BoundedLogEventQueue start(
+      String name,
+      int capacity,
+      OverflowPolicy overflowPolicy,
+      Level overflowLevel,
+      @Nullable Level priorityLevel,
+      int batchSize,
+      Duration linger,
+      Thread.Builder workerThreadBuilder,
+      Consumer<List<LogEvent>> batchConsumer) {
+    BoundedLogEventQueue boundedLogEventQueue = new BoundedLogEventQueue(
+        name,
+        capacity,
+        overflowPolicy,
+        overflowLevel,
+        priorityLevel,
+        batchSize,
+        linger,
+        workerThreadBuilder,
+        batchConsumer);
+    boundedLogEventQueue.worker.start();
+    return boundedLogEventQueue;
+  }
+
+  /**
+   * Queues the specified event into its lane, applying the overflow policy if the lane is full.
+   * After the queue is stopped, the event is discarded, and counted as dropped. An event offered by
+   * the worker itself, e.g. logged by a writer, is dropped rather than waited for when the lane is
+   * full, as only the worker could make room for it.
+   *
+   * @param logEvent to queue
+   */
+  void offer(LogEvent logEvent) {
+    lock.lock();
+    try {
+      if (stopped) {
+        droppedCount++;
+        return;
+      }
+      ArrayDeque<LogEvent> lane = laneOf(logEvent);
+      if (lane.size() < capacity) {
+        enqueue(logEvent, lane);
+        return;
+      }
+      if (Thread.currentThread() == worker && isBlocking(logEvent)) {
+        droppedCount++;
+        return;
+      }
+      switch (overflowPolicy) {
+        case BLOCK -> awaitAndEnqueue(logEvent, lane);
+        case DROP_NEWEST -> droppedCount++;
+        case DROP_OLDEST -> {
+          lane.pollFirst();
+          droppedCount++;
+          enqueue(logEvent, lane);
+        }
+        case DROP_BELOW_LEVEL -> {
+          if (logEvent.level().compareTo(overflowLevel) < 0) {
+            droppedCount++;
+          } else {
+            awaitAndEnqueue(logEvent, lane);
+          }
+        }
+        case SYNC -> writtenSynchronouslyCount++;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (overflowPolicy == OverflowPolicy.SYNC) {
+      consume(List.of(logEvent));
+    }
+  }
+
+  /**
+   * Stops accepting events, and waits for the worker to finish the events already queued.
+   *
+   * @param timeout max time to wait for the worker to finish
+   * @return true if the worker finished within the timeout
+   */
+  boolean stop(Duration timeout) {
+    lock.lock();
+    try {
+      stopped = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      return worker.join(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** @return the number of the events queued and not yet taken by the worker */
+  int pendingCount() {
+    lock.lock();
+    try {
+      return size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Discards the events still queued, e.g. after a stop has timed out, so the worker finishes once
+   * done with the batch at hand.
+   *
+   * @return the number of the events discarded
+   */
+  int abandon() {
+    lock.lock();
+    try {
+      int abandoned = size();
+      priorityEvents.clear();
+      events.clear();
+      stopped = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+      return abandoned;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** @return counts of the events this queue has overflowed so far */
+  OverflowCounts overflowCounts() {
+    lock.lock();
+    try {
+      return new OverflowCounts(droppedCount, blockedCount, writtenSynchronouslyCount);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private ArrayDeque<LogEvent> laneOf(LogEvent logEvent) {
+    return priorityLevel != null && logEvent.level().compareTo(priorityLevel) >= 0
+        ? priorityEvents
+        : events;
+  }
+
+  /** @return true if the overflow policy makes the caller wait for room in a full lane */
+  private boolean isBlocking(LogEvent logEvent) {
+    return overflowPolicy == OverflowPolicy.BLOCK
+        || (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL
+            && logEvent.level().compareTo(overflowLevel) >= 0);
+  }
+
+  private int size() {
+    return priorityEvents.size() + events.size();
+  }
+
+  private void enqueue(LogEvent logEvent, ArrayDeque<LogEvent> lane) {
+    lane.addLast(logEvent);
+    notEmpty.signal();
+  }
+
+  private void awaitAndEnqueue(LogEvent logEvent, ArrayDeque<LogEvent> lane) {
+    blockedCount++;
+    try {
+      while (lane.size() >= capacity && !stopped) {
+        notFull.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      droppedCount++;
+      return;
+    }
+    if (stopped) {
+      droppedCount++;
+      return;
+    }
+    enqueue(logEvent, lane);
+  }
+
+  /**
+   * Once the worker quits, for whatever reason, the queue is stopped: no caller is then left
+   * waiting for room that would never be made, and the events left queued are counted as dropped.
+   */
+  private void consumeUntilStopped() {
+    try {
+      consumeUntilDrained();
+    } finally {
+      lock.lock();
+      try {
+        stopped = true;
+        droppedCount += size();
+        priorityEvents.clear();
+        events.clear();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void consumeUntilDrained() {
+    List<LogEvent> batch = new ArrayList<>(batchSize);
+    while (true) {
+      lock.lock();
+      try {
+        while (size() == 0 && !stopped) {
+          notEmpty.awaitUninterruptibly();
+        }
+        if (size() == 0) {
+          return;
+        }
+        awaitFullBatch();
+        while (batch.size() < batchSize && !priorityEvents.isEmpty()) {
+          batch.add(priorityEvents.pollFirst());
+        }
+        while (batch.size() < batchSize && !events.isEmpty()) {
+          batch.add(events.pollFirst());
+        }
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      consume(batch);
+      batch.clear();
+    }
+  }
+
+  private void awaitFullBatch() {
+    long remainingNanos = lingerNanos;
+    try {
+      while (remainingNanos > 0 && size() < batchSize && !stopped) {
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * An error thrown by the batch consumer, e.g. a {@link StackOverflowError} from rendering an
+   * argument, only fails the batch at hand: were it to end the worker, the queue would stop
+   * draining.
+   */
+  private void consume(List<LogEvent> batch) {
+    try {
+      batchConsumer.accept(batch);
+    } catch (Throwable e) {
+      LOGGER.error(
+          "Failed to consume batch of %s log event(s) in %s".formatted(batch.size(), this), e);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * Decorates a writer that has its own minimum caller detail level, withholding the caller frame
+ * from the events below that level. The caller frame of such an event may still be captured for
+ * another writer of a lower caller detail level in the same composite writer.
+ *
+ * @implNote An event passed on without its caller frame is a copy, so only the events that do carry
+ *     a frame below the level cost an allocation; the other events are passed on as they are.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class CallerDetailLevelLogEventWriter implements LogEventWriter {
+  @ToString.Include
+  private final LogEventWriter logEventWriter;
+
+  @ToString.Include
+  private final Level callerDetailLevel;
+
+  /**
+   * @param logEventWriter to write the events to
+   * @param callerDetailLevel the minimum level of the events whose caller frame is passed on
+   */
+  CallerDetailLevelLogEventWriter(LogEventWriter logEventWriter, Level callerDetailLevel) {
+    this.logEventWriter = logEventWriter;
+    this.callerDetailLevel = callerDetailLevel;
+  }
+
+  @Override
+  public void write(LogEvent logEvent) {
+    logEventWriter.write(withheld(logEvent));
+  }
+
+  @Override
+  public void write(List<LogEvent> logEvents) {
+    if (logEvents.stream().noneMatch(this::withholdsCallerFrame)) {
+      logEventWriter.write(logEvents);
+      return;
+    }
+    List<LogEvent> withheldEvents = new ArrayList<>(logEvents.size());
+    for (LogEvent logEvent : logEvents) {
+      withheldEvents.add(withheld(logEvent));
+    }
+    logEventWriter.write(withheldEvents);
+  }
+
+  @Override
+  public void flush() {
+    logEventWriter.flush();
+  }
+
+  @Override
+  public boolean requiresCallerDetail() {
+    return logEventWriter.requiresCallerDetail();
+  }
+
+  @Override
+  public boolean requiresCallerDetail(Level level) {
+    return level.compareTo(callerDetailLevel) >= 0 && logEventWriter.requiresCallerDetail(level);
+  }
+
+  private LogEvent withheld(LogEvent logEvent) {
+    return withholdsCallerFrame(logEvent) ? logEvent.withoutCallerFrame() : logEvent;
+  }
+
+  private boolean withholdsCallerFrame(LogEvent logEvent) {
+    return logEvent.callerFrame() != null && logEvent.level().compareTo(callerDetailLevel) < 0;
+  }
+}
@@ -26,12 +26,15 @@
 package elf4j.engine.logging.writer;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static org.awaitility.Awaitility.await;
 
 import conseq4j.execute.ConseqExecutor;
+import elf4j.Level;
 import elf4j.Logger;
 import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.LogEventClock;
+import elf4j.engine.logging.LogEventRingBuffer;
 import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
 import elf4j.engine.logging.configuration.ConfigurationProperties;
 import elf4j.util.UtilLogger;
 import java.lang.reflect.InvocationTargetException;
@@ -41,7 +44,6 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.jspecify.annotations.Nullable;
-import org.slf4j.MDC;
 
 /**
  * @implNote Log events are usually asynchronously written/rendered in parallel by multiple
@@ -49,7 +51,64 @@ import org.slf4j.MDC;
  *     sequentially with the {@link ConseqExecutor} API. Thus, logs by different caller threads may
  *     arrive at the final destination (e.g. system Console or a log file) in any order; meanwhile,
  *     logs from the same caller thread will arrive sequentially in the same order as they are
- *     called by such thread.
+ *     called by such thread. The key by which the events are kept in order can also be configured
+ *     per {@link OrderKey}, e.g. to the logger name or a request id in the MDC context, or to a
+ *     single global order, or to no order at all, trading ordering for parallelism.
+ *     <p>Instead of a fixed concurrency, the async executor can be configured with adaptive
+ *     concurrency bounds, within which the number of lanes writing concurrently grows with the
+ *     backlog and the writer latency, and shrinks when idle (see
+ *     {@link AdaptiveLaneExecutorService}); the order per key is kept regardless.
+ *     <p>In the {@link Mode#FANOUT} mode, each log event is handed over to the async executor once,
+ *     as a single task that writes the event to all the writers in turn, rather than as a separate
+ *     task per writer. The caller-side cost then no longer grows with the number of writers, while
+ *     each writer still receives the events of a caller thread in order.
+ *     <p>In the {@link Mode#BOUNDED} mode, each log event is queued into one of a fixed number of
+ *     bounded queues, selected by the caller thread, and written by the queue's own worker thread;
+ *     logs from the same caller thread are thus still written in order. Unlike the async executor,
+ *     whose backlog is unbounded, a queue holds a limited number of events; when it is full, e.g.
+ *     because a writer's destination stalls, the configured {@link OverflowPolicy} applies. The
+ *     queues are drained by daemon platform threads by default, or by virtual threads as configured
+ *     (see {@link WorkerThreads}), which release their carrier threads while blocked in writer I/O.
+ *     <p>In the {@link Mode#ISOLATED} mode, each writer is instead given a bounded queue and worker
+ *     thread of its own, so a writer that blocks or slows down only backs up its own queue, and is
+ *     subject to its own overflow policy, while the other writers keep up. Each writer still
+ *     receives the events in the order they are queued, thus in order per caller thread. Queue
+ *     capacity and overflow can be configured per writer factory, e.g.
+ *     {@code queue.capacity@<factory class>}.
+ *     <p>In the {@link Mode#BOUNDED}, {@link Mode#ISOLATED} and {@link Mode#RING} modes, the queued
+ *     events are drained and handed to each writer in batches, via
+ *     {@link LogEventWriter#write(List)}, so a writer can ship many events in one output operation.
+ *     <p>In the opt-in {@link Mode#RING} mode, log events are instead filled into the reusable
+ *     slots of a {@link LogEventRingBuffer}, and written by a single consumer thread in the order
+ *     they are published, without allocating any event or task object per log call. Unlike the
+ *     async executor, which chains a task per event and sequence key, the ring is a preallocated
+ *     multi-producer single-consumer queue; how its consumer and callers wait is configurable per
+ *     {@link LogEventRingBuffer.WaitStrategy}.
+ *     <p>In the {@link Mode#SYNC} mode, the caller thread writes each log event to all the writers
+ *     itself. No executor or worker thread is started, and there is nothing to drain on stop, which
+ *     suits short-lived processes that log only a few lines; the caller, however, pays for the
+ *     writers' rendering and I/O.
+ *     <p>With a configured priority level, e.g. {@code priority.level=warn}, events at or above the
+ *     level are dispatched in a priority lane of their own: in the {@link Mode#ASYNC} and
+ *     {@link Mode#FANOUT} modes, a separate async executor of the same configured concurrency; in
+ *     the {@link Mode#BOUNDED} and {@link Mode#ISOLATED} modes, a separate lane of each bounded
+ *     queue, which its worker drains first. High-severity events then neither wait behind a backlog
+ *     of lower-level events, nor are left undrained with it when the stop times out. The order by
+ *     key is kept within each lane; a priority event may be written ahead of the earlier
+ *     lower-level events of the same key. The single sequence of the {@link Mode#RING} mode has no
+ *     priority lane.
+ *     <p>With a configured suppression window, e.g. {@code suppress.window.ms=1000}, repeats of a
+ *     log event, by logger name, level, and unresolved message template, are suppressed within the
+ *     window on the caller thread, before any dispatch, rendering, or write; the number of the
+ *     repeats suppressed is then written in a summary event of the same logger and level (see
+ *     {@link LogEventSuppressor}).
+ *     <p>With a configured flight recorder size, e.g. {@code recorder.size=256}, the log events
+ *     below their loggers' threshold levels are not discarded but recorded in memory, up to the
+ *     size per caller thread or per value of a configured MDC context entry (see
+ *     {@link FlightRecorder}). When an event at or above the recorder's flush level, default to
+ *     ERROR, is written, the events recorded for the same key are written ahead of it, as the debug
+ *     context of the error; all recorded events can also be written on demand by
+ *     {@link #flushFlightRecorder()}.
  */
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
@@ -57,26 +116,74 @@ public class CompositeLogEventWriter implements LogEventWriter, NativeLogService
   private static final Logger LOGGER = UtilLogger.INFO;
   private static final LogEventWriterFactory DEFAULT_WRITER_FACTORY =
       new StandardStreamLogEventWriterFactory();
+  private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final int DEFAULT_SUPPRESS_MAX_KEYS = 1024;
+  private static final int DEFAULT_RECORDER_MAX_KEYS = 1024;
+  private static final Level DEFAULT_RECORDER_FLUSH_LEVEL = Level.ERROR;
+  private static final String SUPPRESSED_SUMMARY = "Suppressed {} repeat(s) within {} ms of: {}";
 
   /** Composed writers are created based on configuration properties. */
   @EqualsAndHashCode.Include
   private final List<LogEventWriter> writers;
 
-  /**
-   * The async executor's concurrency is based on configuration properties. If omitted, the default
-   * concurrency is determined by the <a href="https://q3769.github.io/conseq4j">conseq4j API</a>
-   */
-  private final ConseqExecutor conseqExecutor;
+  /** Hands the admitted log events over to the writers, per the configured {@link Mode} */
+  private final LogEventDispatcher logEventDispatcher;
+
+  /** Present only when configured with a suppression window */
+  private final @Nullable LogEventSuppressor logEventSuppressor;
+
+  /** Present only when configured with a flight recorder size */
+  private final @Nullable FlightRecorder flightRecorder;
+
+  /** Lowest level of the below-threshold events recorded by the flight recorder */
+  private final Level recorderLevel;
+
+  /** Level at and above which an event written is preceded by the events recorded of its key */
+  private final Level recorderFlushLevel;
+
+  /** Source of the timestamps of the log events written by detail */
+  private final LogEventClock logEventClock;
 
   /**
-   * {@code true} if any of the configured log writer's log pattern requires run-time caller detail,
-   * cached after deriving from the writers.
+   * Levels of the log events for which any of the configured writers requires run-time caller
+   * detail, derived from the writers and their configured minimum caller detail levels. A writer
+   * with a minimum caller detail level of its own is decorated to withhold the caller frame of the
+   * events below that level, captured for the other writers.
    */
-  private @Nullable Boolean includeCallerDetail;
+  private final Set<Level> callerDetailLevels;
 
-  private CompositeLogEventWriter(List<LogEventWriter> writers, ConseqExecutor conseqExecutor) {
+  private CompositeLogEventWriter(
+      List<LogEventWriter> writers,
+      List<Class<? extends LogEventWriterFactory>> writerFactoryClasses,
+      Set<Level> callerDetailLevels,
+      ConfigurationProperties configurationProperties) {
     this.writers = writers;
-    this.conseqExecutor = conseqExecutor;
+    this.callerDetailLevels = callerDetailLevels;
+    this.logEventClock = LogEventClock.from(configurationProperties);
+    this.logEventDispatcher = switch (getMode(configurationProperties)) {
+      case ASYNC ->
+        new AsyncLogEventDispatcher(
+            writers, LogEventOrder.from(configurationProperties), configurationProperties);
+      case FANOUT ->
+        new FanoutLogEventDispatcher(
+            writers, LogEventOrder.from(configurationProperties), configurationProperties);
+      case BOUNDED ->
+        new BoundedLogEventDispatcher(
+            writers, LogEventOrder.from(configurationProperties), configurationProperties);
+      case ISOLATED ->
+        new IsolatedLogEventDispatcher(writers, writerFactoryClasses, configurationProperties);
+      case RING -> new RingLogEventDispatcher(writers, configurationProperties);
+      case SYNC -> new SyncLogEventDispatcher(writers);
+    };
+    this.logEventSuppressor = getLogEventSuppressor(configurationProperties);
+    this.flightRecorder = getFlightRecorder(configurationProperties);
+    this.recorderLevel = Optional.ofNullable(
+            configurationProperties.getAsLevel(ConfigurationProperties.RECORDER_LEVEL))
+        .orElse(Level.TRACE);
+    this.recorderFlushLevel = Optional.ofNullable(
+            configurationProperties.getAsLevel(ConfigurationProperties.RECORDER_FLUSH_LEVEL))
+        .orElse(DEFAULT_RECORDER_FLUSH_LEVEL);
     LOGGER.info("%s service writer(s) in %s".formatted(writers.size(), this));
     NativeLogServiceManager.INSTANCE.register(this);
   }
@@ -93,16 +200,92 @@ public class CompositeLogEventWriter implements LogEventWriter, NativeLogService
     if (configuredWriterFactories.isEmpty()) {
       configuredWriterFactories.add(DEFAULT_WRITER_FACTORY);
     }
-    List<LogEventWriter> logEventWriters = configuredWriterFactories.stream()
-        .map(logEventWriterFactory ->
-            logEventWriterFactory.getWriter(configurationProperties.properties()))
-        .toList();
+    List<LogEventWriter> logEventWriters = new ArrayList<>();
+    List<Class<? extends LogEventWriterFactory>> writerFactoryClasses = new ArrayList<>();
+    Set<Level> callerDetailLevels = EnumSet.noneOf(Level.class);
+    for (LogEventWriterFactory logEventWriterFactory : configuredWriterFactories) {
+      LogEventWriter logEventWriter =
+          logEventWriterFactory.getWriter(configurationProperties.properties());
+      Level callerDetailLevel =
+          getCallerDetailLevel(logEventWriterFactory.getClass(), configurationProperties);
+      if (callerDetailLevel != Level.TRACE && logEventWriter.requiresCallerDetail()) {
+        logEventWriter = new CallerDetailLevelLogEventWriter(logEventWriter, callerDetailLevel);
+      }
+      logEventWriters.add(logEventWriter);
+      writerFactoryClasses.add(logEventWriterFactory.getClass());
+      Arrays.stream(Level.values())
+          .filter(level -> level.compareTo(callerDetailLevel) >= 0)
+          .filter(logEventWriter::requiresCallerDetail)
+          .forEach(callerDetailLevels::add);
+    }
     return new CompositeLogEventWriter(
-        logEventWriters,
+        List.copyOf(logEventWriters),
+        writerFactoryClasses,
+        callerDetailLevels,
+        configurationProperties);
+  }
+
+  private static Mode getMode(ConfigurationProperties configurationProperties) {
+    String mode = configurationProperties.properties().getProperty(ConfigurationProperties.MODE);
+    return isNullOrEmpty(mode) ? Mode.ASYNC : Mode.valueOf(mode.strip().toUpperCase());
+  }
+
+  private @Nullable LogEventSuppressor getLogEventSuppressor(
+      ConfigurationProperties configurationProperties) {
+    @Nullable Integer windowMillis =
+        configurationProperties.getAsInteger(ConfigurationProperties.SUPPRESS_WINDOW_MS);
+    if (windowMillis == null || windowMillis <= 0) {
+      return null;
+    }
+    return new LogEventSuppressor(
+        Duration.ofMillis(windowMillis),
+        Optional.ofNullable(
+                configurationProperties.getAsInteger(ConfigurationProperties.SUPPRESS_MAX_KEYS))
+            .orElse(DEFAULT_SUPPRESS_MAX_KEYS),
+        (loggerName, level, message, suppressedCount) -> writeUnsuppressed(
+            loggerName,
+            level,
+            null,
+            SUPPRESSED_SUMMARY,
+            new Object[] {suppressedCount, windowMillis, message},
+            null));
+  }
+
+  private static @Nullable FlightRecorder getFlightRecorder(
+      ConfigurationProperties configurationProperties) {
+    @Nullable Integer size = configurationProperties.getAsInteger(ConfigurationProperties.RECORDER_SIZE);
+    if (size == null || size <= 0) {
+      return null;
+    }
+    String keyContext =
+        configurationProperties.properties().getProperty(ConfigurationProperties.RECORDER_CONTEXT);
+    return new FlightRecorder(
+        size,
         Optional.ofNullable(
-                configurationProperties.getAsInteger(ConfigurationProperties.CONCURRENCY))
-            .map(ConseqExecutor::instance)
-            .orElse(ConseqExecutor.instance()));
+                configurationProperties.getAsInteger(ConfigurationProperties.RECORDER_MAX_KEYS))
+            .orElse(DEFAULT_RECORDER_MAX_KEYS),
+        isNullOrEmpty(keyContext) ? null : keyContext.strip());
+  }
+
+  /**
+   * @param logEventWriterFactoryClass of the writer
+   * @param configurationProperties entire configuration
+   * @return the minimum level of log events for which caller detail is captured for the writer,
+   *     configured either per writer factory class or globally; defaults to the lowest level
+   */
+  private static Level getCallerDetailLevel(
+      Class<? extends LogEventWriterFactory> logEventWriterFactoryClass,
+      ConfigurationProperties configurationProperties) {
+    @Nullable Level writerCallerDetailLevel =
+        configurationProperties.getAsLevel(ConfigurationProperties.CALLER_DETAIL_LEVEL
+            + ConfigurationProperties.LEVEL_NAME_DELIMITER
+            + logEventWriterFactoryClass.getName());
+    if (writerCallerDetailLevel != null) {
+      return writerCallerDetailLevel;
+    }
+    @Nullable Level globalCallerDetailLevel =
+        configurationProperties.getAsLevel(ConfigurationProperties.CALLER_DETAIL_LEVEL);
+    return globalCallerDetailLevel == null ? Level.TRACE : globalCallerDetailLevel;
   }
 
   private static List<LogEventWriterFactory> getLogWriterFactories(
@@ -139,53 +322,316 @@ public class CompositeLogEventWriter implements LogEventWriter, NativeLogService
         .collect(Collectors.toList());
   }
 
-  private static Runnable withMdcContext(Runnable task) {
-    Map<String, String> callerContext = MDC.getCopyOfContextMap();
-    return () -> {
-      Map<String, String> workerContext = switchContextTo(callerContext);
-      MDC.setContextMap(callerContext);
-      try {
-        task.run();
-      } finally {
-        MDC.setContextMap(workerContext);
-      }
-    };
+  @Override
+  public void write(LogEvent logEvent) {
+    if (logEventSuppressor != null
+        && !logEventSuppressor.admit(logEvent.loggerName(), logEvent.level(), logEvent.message())) {
+      return;
+    }
+    flushRecordedBefore(logEvent.level());
+    logEventDispatcher.dispatch(logEvent);
   }
 
-  private static Map<String, String> switchContextTo(Map<String, String> targetContext) {
-    Map<String, String> replaced = MDC.getCopyOfContextMap();
-    MDC.setContextMap(targetContext);
-    return replaced;
+  /**
+   * Writes a log event of the specified detail, issued by the current thread. In {@link Mode#RING}
+   * mode, the detail is filled into a reusable event slot rather than a newly allocated event.
+   *
+   * @param loggerName of the log event
+   * @param level of the log event
+   * @param throwable of the log event
+   * @param message of the log event
+   * @param arguments of the log event
+   * @param callerFrame of the log event, if caller detail is required
+   */
+  public void write(
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    if (logEventSuppressor != null && !logEventSuppressor.admit(loggerName, level, message)) {
+      return;
+    }
+    flushRecordedBefore(level);
+    writeUnsuppressed(loggerName, level, throwable, message, arguments, callerFrame);
   }
 
-  @Override
-  public void write(LogEvent logEvent) {
-    writers.forEach(writer -> conseqExecutor.execute(
-        withMdcContext(() -> writer.write(logEvent)), logEvent.callerThread().id()));
+  private void writeUnsuppressed(
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    logEventDispatcher.dispatch(
+        logEventClock.epochNanos(),
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        LogEvent.CallerThreadValue.ofCurrentThread(),
+        callerFrame);
+  }
+
+  /**
+   * Records a log event below its logger's threshold level in the flight recorder, for it to be
+   * written only if an event at or above the flush level is later written for the same key.
+   *
+   * @param loggerName of the log event
+   * @param level of the log event
+   * @param throwable of the log event
+   * @param message of the log event, kept unresolved
+   * @param arguments of the log event
+   */
+  public void record(
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments) {
+    if (flightRecorder == null) {
+      return;
+    }
+    flightRecorder.record(new LogEvent(
+        logEventClock.epochNanos(),
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        LogEvent.CallerThreadValue.ofCurrentThread(),
+        null));
+  }
+
+  /** @return true if configured with a flight recorder */
+  public boolean isRecording() {
+    return flightRecorder != null;
+  }
+
+  /**
+   * @param level of a log event below its logger's threshold level
+   * @return true if the log event is to be recorded by the flight recorder
+   */
+  public boolean isRecorded(Level level) {
+    return flightRecorder != null && level.compareTo(recorderLevel) >= 0;
+  }
+
+  /**
+   * Writes all the events recorded so far by the flight recorder, in the order of their timestamps,
+   * e.g. on an incident detected other than by an error logged. No-op if there is no flight
+   * recorder.
+   */
+  public void flushFlightRecorder() {
+    if (flightRecorder == null) {
+      return;
+    }
+    flightRecorder.takeAll().forEach(logEventDispatcher::dispatch);
+  }
+
+  /** @return counts of the events recorded by the flight recorder, all zero if there is none */
+  public FlightRecorderCounts getFlightRecorderCounts() {
+    return flightRecorder == null
+        ? new FlightRecorderCounts(0, 0, 0, 0, 0)
+        : flightRecorder.counts();
+  }
+
+  private void flushRecordedBefore(Level level) {
+    if (flightRecorder != null && level.compareTo(recorderFlushLevel) >= 0) {
+      flightRecorder.takeCurrent().forEach(logEventDispatcher::dispatch);
+    }
+  }
+
+  /**
+   * @return the number of lanes in which log events are currently written concurrently: as adapted
+   *     so far with adaptive concurrency; the configured concurrency of the async executor; the
+   *     number of bounded queues in {@link Mode#BOUNDED} or {@link Mode#ISOLATED} mode; 1 in
+   *     {@link Mode#RING} mode; or -1 if unbounded, i.e. in {@link Mode#SYNC} mode or with no
+   *     concurrency configured for the async executor
+   */
+  public int getLaneCount() {
+    return logEventDispatcher.laneCount();
   }
 
   @Override
   public boolean requiresCallerDetail() {
-    if (includeCallerDetail == null) {
-      includeCallerDetail = writers.stream().anyMatch(LogEventWriter::requiresCallerDetail);
-    }
-    return includeCallerDetail;
+    return !callerDetailLevels.isEmpty();
   }
 
+  @Override
+  public boolean requiresCallerDetail(Level level) {
+    return callerDetailLevels.contains(level);
+  }
+
+  /**
+   * @return counts of the log events that have overflowed the bounded queues so far; in
+   *     {@link Mode#RING} mode, only the events dropped by the ring buffer; in {@link Mode#ASYNC}
+   *     and {@link Mode#FANOUT} modes, only the events dropped once stopping; all zero in
+   *     {@link Mode#SYNC} mode
+   */
+  public OverflowCounts getOverflowCounts() {
+    return logEventDispatcher.overflowCounts();
+  }
+
+  /** Stops and drains, within a default timeout of 30 seconds, per {@link #stop(Duration)} */
   @Override
   public void stop() {
-    if (conseqExecutor.isTerminated()) {
-      return;
+    stop(STOP_TIMEOUT);
+  }
+
+  /**
+   * Stops accepting log events, and waits for the pending events to be written out, without
+   * polling, until the timeout; the events still pending then are abandoned. The writers are
+   * flushed afterwards.
+   *
+   * @param timeout max time to drain the pending log events
+   * @return counts of the pending log events drained and abandoned
+   */
+  @Override
+  public DrainCounts stop(Duration timeout) {
+    long deadlineNanos = System.nanoTime() + timeout.toNanos();
+    if (logEventSuppressor != null) {
+      logEventSuppressor.flush();
+    }
+    if (flightRecorder != null) {
+      flightRecorder.clear();
     }
-    LOGGER.info("Stopping %s".formatted(this));
-    conseqExecutor.shutdown();
-    Duration timeout = Duration.ofSeconds(30);
-    try (conseqExecutor) {
-      await().atMost(timeout).until(conseqExecutor::isTerminated);
-      LOGGER.info("Stopped %s".formatted(this));
-    } catch (Exception e) {
-      LOGGER.warn(
-          "Writer executor %s still not terminated after %s".formatted(conseqExecutor, timeout), e);
+    DrainCounts drainCounts = logEventDispatcher.stop(timeout, deadlineNanos);
+    flush();
+    return drainCounts;
+  }
+
+  /** Flushes all the composed writers */
+  @Override
+  public void flush() {
+    for (LogEventWriter writer : writers) {
+      try {
+        writer.flush();
+      } catch (RuntimeException e) {
+        LOGGER.warn("Failed to flush writer %s".formatted(writer), e);
+      }
+    }
+  }
+
+  /** How log events are handed over from the caller threads to the writers */
+  public enum Mode {
+    /** Each event is written asynchronously by a task per writer, in order per caller thread */
+    ASYNC,
+    /**
+     * Each event is written asynchronously by a single task to all writers, in order per caller
+     * thread
+     */
+    FANOUT,
+    /**
+     * Each event is queued into a bounded queue, and written asynchronously by the queue's worker
+     * thread, in order per caller thread
+     */
+    BOUNDED,
+    /**
+     * Events are filled into a garbage-free ring buffer, and written by a single thread in order
+     */
+    RING,
+    /** Each event is written synchronously by the caller thread itself to all writers in turn */
+    SYNC,
+    /**
+     * Each event is queued into a bounded queue per writer, and written asynchronously by the
+     * queue's worker thread, in order per writer
+     */
+    ISOLATED
+  }
+
+  /**
+   * What log events are kept in order by, in the {@link Mode#ASYNC}, {@link Mode#FANOUT}, and
+   * {@link Mode#BOUNDED} modes. Events of different keys may be written in parallel, and thus
+   * arrive at the destination in any order; the coarser the key, the less the parallelism.
+   */
+  public enum OrderKey {
+    /** Events issued by the same caller thread are written in order */
+    CALLER_THREAD,
+    /** Events of the same logger name are written in order */
+    LOGGER,
+    /**
+     * Events of the same value of the configured MDC context entry, e.g. a request id, are written
+     * in order; events without such entry are ordered by caller thread
+     */
+    CONTEXT,
+    /** All events are written in a single total order */
+    GLOBAL,
+    /** No order is kept, for the most parallelism */
+    UNORDERED
+  }
+
+  /** Kind of the worker threads draining the bounded queues in {@link Mode#BOUNDED} mode */
+  public enum WorkerThreads {
+    /** Daemon platform threads, one per queue */
+    PLATFORM,
+    /**
+     * Virtual threads, one per queue; a worker blocked in a writer's I/O does not hold on to a
+     * carrier thread, leaving it to the caller threads and other workers.
+     */
+    VIRTUAL;
+
+    Thread.Builder newBuilder() {
+      return switch (this) {
+        case PLATFORM -> Thread.ofPlatform().daemon(true);
+        case VIRTUAL -> Thread.ofVirtual();
+      };
     }
   }
+
+  /**
+   * How an event is handled when the bounded queue it is offered to in {@link Mode#BOUNDED} mode is
+   * full
+   */
+  public enum OverflowPolicy {
+    /** The caller waits until the queue has room for the event */
+    BLOCK,
+    /** The event is dropped */
+    DROP_NEWEST,
+    /** The oldest event in the queue is dropped to make room for the event */
+    DROP_OLDEST,
+    /**
+     * The event is dropped if its level is below the configured overflow level, default to WARN;
+     * otherwise, the caller waits until the queue has room for the event
+     */
+    DROP_BELOW_LEVEL,
+    /**
+     * The caller writes the event itself, synchronously; the event may then be written ahead of the
+     * earlier events of the same caller thread still in the queue
+     */
+    SYNC
+  }
+
+  /**
+   * Counts of the events that have overflowed the bounded queues
+   *
+   * @param dropped events discarded, per the {@link OverflowPolicy#DROP_NEWEST},
+   *     {@link OverflowPolicy#DROP_OLDEST}, or {@link OverflowPolicy#DROP_BELOW_LEVEL} policy, or
+   *     when a blocked caller is interrupted
+   * @param blocked log calls that waited for room in a full queue, per the
+   *     {@link OverflowPolicy#BLOCK} or {@link OverflowPolicy#DROP_BELOW_LEVEL} policy
+   * @param writtenSynchronously events written by the caller thread, per the
+   *     {@link OverflowPolicy#SYNC} policy
+   */
+  public record OverflowCounts(long dropped, long blocked, long writtenSynchronously) {
+    OverflowCounts plus(OverflowCounts other) {
+      return new OverflowCounts(
+          dropped + other.dropped,
+          blocked + other.blocked,
+          writtenSynchronously + other.writtenSynchronously);
+    }
+  }
+
+  /**
+   * Counts of the events recorded by the flight recorder
+   *
+   * @param buffered events currently kept in memory
+   * @param capacity max number of events kept in memory, the size per key times the max keys
+   * @param flushed events written on errors or on demand
+   * @param overwritten events discarded in place of newer events of the same key
+   * @param evicted events discarded along with their keys beyond the max keys, or on stop
+   */
+  public record FlightRecorderCounts(
+      long buffered, long capacity, long flushed, long overwritten, long evicted) {}
 }
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import conseq4j.execute.ConseqExecutor;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * Dispatches in {@link Mode#FANOUT} mode: each log event is handed over to the async executor once,
+ * as a single task that writes the event to all the writers in turn, rather than as a separate task
+ * per writer. The caller-side cost then no longer grows with the number of writers.
+ */
+@ToString(callSuper = true)
+final class FanoutLogEventDispatcher extends AsyncLogEventDispatcher {
+  FanoutLogEventDispatcher(
+      List<LogEventWriter> writers,
+      LogEventOrder logEventOrder,
+      ConfigurationProperties configurationProperties) {
+    super(writers, logEventOrder, configurationProperties);
+  }
+
+  @Override
+  void submit(LogEvent logEvent, ConseqExecutor executor, Object sequenceKey) {
+    execute(
+        executor,
+        () -> {
+          for (LogEventWriter writer : writers) {
+            writer.write(logEvent);
+          }
+        },
+        sequenceKey);
+  }
+}
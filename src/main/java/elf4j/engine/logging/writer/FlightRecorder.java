@@ -0,0 +1,269 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.FlightRecorderCounts;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.CopyOnWriteMdcAdapter;
+
+/**
+ * Keeps the last events recorded per key, either the caller thread, or the value of a configured
+ * MDC context entry such as a request id, for the events to be written later only if needed, e.g.
+ * when an error occurs for the same key. The events are kept as they are logged, without their
+ * messages resolved or rendered.
+ *
+ * <p>Memory is bounded by the number of events kept per key, and by the number of keys, beyond
+ * which the key first recorded is evicted along with its events. The events kept, written, and lost
+ * to either bound are counted.
+ *
+ * @implNote The keys are looked up without locking; each key's ring of events is guarded by a lock
+ *     of its own, only contended when the ring is taken while being recorded into. The rings are
+ *     also queued by age for eviction; a ring taken off its key is not removed from the queue, an
+ *     O(n) operation, but skipped once it reaches the queue head, and purged in bulk once as many
+ *     as the max keys are stale.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class FlightRecorder {
+  @ToString.Include
+  private final int size;
+
+  @ToString.Include
+  private final int maxKeys;
+
+  @ToString.Include
+  private final @Nullable String keyContext;
+
+  private final Map<Object, Ring> ringsByKey = new ConcurrentHashMap<>();
+  private final Queue<Ring> ringsByAge = new ConcurrentLinkedQueue<>();
+
+  /** Approximate number of the rings in the age queue already taken off their keys */
+  private final AtomicInteger staleCount = new AtomicInteger();
+
+  private final AtomicLong bufferedCount = new AtomicLong();
+  private final LongAdder flushedCount = new LongAdder();
+  private final LongAdder overwrittenCount = new LongAdder();
+  private final LongAdder evictedCount = new LongAdder();
+
+  /**
+   * @param size max number of events kept per key
+   * @param maxKeys max number of keys kept
+   * @param keyContext name of the MDC context entry to key the events by, null to key by caller
+   *     thread; events without the entry are keyed by caller thread
+   */
+  FlightRecorder(int size, int maxKeys, @Nullable String keyContext) {
+    this.size = Math.max(1, size);
+    this.maxKeys = Math.max(1, maxKeys);
+    this.keyContext = keyContext;
+  }
+
+  /** @param logEvent to keep, possibly in place of the oldest event kept of the same key */
+  void record(LogEvent logEvent) {
+    Object key = keyOf(
+        logEvent.callerThread().id(),
+        keyContext == null ? null : logEvent.context().get(keyContext));
+    while (true) {
+      Ring ring = ringsByKey.get(key);
+      if (ring == null) {
+        Ring added = new Ring(key);
+        ring = ringsByKey.putIfAbsent(key, added);
+        if (ring == null) {
+          ring = added;
+          ringsByAge.add(added);
+          evictBeyondMaxKeys();
+          purgeStale();
+        }
+      }
+      if (ring.add(logEvent)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return the events kept of the current caller's key, in the order recorded, no longer kept
+   *     afterwards
+   */
+  List<LogEvent> takeCurrent() {
+    Object key = keyOf(
+        Thread.currentThread().threadId(),
+        keyContext == null ? null : CopyOnWriteMdcAdapter.contextSnapshot().get(keyContext));
+    Ring ring = ringsByKey.remove(key);
+    if (ring == null) {
+      return List.of();
+    }
+    staleCount.incrementAndGet();
+    return taken(ring.drain());
+  }
+
+  /**
+   * @return the events kept of all keys, in the order of their timestamps, no longer kept
+   *     afterwards
+   */
+  List<LogEvent> takeAll() {
+    List<LogEvent> logEvents = new ArrayList<>();
+    for (Object key : ringsByKey.keySet()) {
+      Ring ring = ringsByKey.remove(key);
+      if (ring != null) {
+        staleCount.incrementAndGet();
+        logEvents.addAll(ring.drain());
+      }
+    }
+    logEvents.sort(Comparator.comparingLong(LogEvent::timestampNanos));
+    return taken(logEvents);
+  }
+
+  /** Discards all the events kept, as evicted */
+  void clear() {
+    for (Object key : ringsByKey.keySet()) {
+      Ring ring = ringsByKey.remove(key);
+      if (ring != null) {
+        staleCount.incrementAndGet();
+        evict(ring);
+      }
+    }
+  }
+
+  /** @return counts of the events recorded so far */
+  FlightRecorderCounts counts() {
+    return new FlightRecorderCounts(
+        bufferedCount.get(),
+        (long) size * maxKeys,
+        flushedCount.sum(),
+        overwrittenCount.sum(),
+        evictedCount.sum());
+  }
+
+  private static Object keyOf(long callerThreadId, @Nullable String contextValue) {
+    return contextValue == null ? (Object) callerThreadId : contextValue;
+  }
+
+  private List<LogEvent> taken(List<LogEvent> logEvents) {
+    bufferedCount.addAndGet(-logEvents.size());
+    flushedCount.add(logEvents.size());
+    return logEvents;
+  }
+
+  private void evictBeyondMaxKeys() {
+    while (ringsByKey.size() > maxKeys) {
+      Ring oldest = ringsByAge.poll();
+      if (oldest == null) {
+        return;
+      }
+      if (ringsByKey.remove(oldest.key, oldest)) {
+        evict(oldest);
+      } else {
+        staleCount.decrementAndGet();
+      }
+    }
+  }
+
+  /** Removes the stale rings from the age queue, once as many as the max keys have accumulated */
+  private void purgeStale() {
+    int stale = staleCount.get();
+    if (stale < maxKeys || !staleCount.compareAndSet(stale, 0)) {
+      return;
+    }
+    for (Iterator<Ring> iterator = ringsByAge.iterator(); iterator.hasNext(); ) {
+      Ring ring = iterator.next();
+      if (ringsByKey.get(ring.key) != ring) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void evict(Ring ring) {
+    int evicted = ring.drain().size();
+    bufferedCount.addAndGet(-evicted);
+    evictedCount.add(evicted);
+  }
+
+  private final class Ring {
+    private final Object key;
+    private final @Nullable LogEvent[] logEvents = new LogEvent[size];
+    private final ReentrantLock lock = new ReentrantLock();
+    private int head;
+    private int count;
+    private boolean retired;
+
+    Ring(Object key) {
+      this.key = key;
+    }
+
+    /** @return false if the ring is already retired from its key, and the event not added */
+    boolean add(LogEvent logEvent) {
+      lock.lock();
+      try {
+        if (retired) {
+          return false;
+        }
+        logEvents[(head + count) % size] = logEvent;
+        if (count < size) {
+          count++;
+          bufferedCount.incrementAndGet();
+        } else {
+          head = (head + 1) % size;
+          overwrittenCount.increment();
+        }
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** @return the events added, in order, after which the ring is retired */
+    List<LogEvent> drain() {
+      lock.lock();
+      try {
+        retired = true;
+        List<LogEvent> drained = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          int index = (head + i) % size;
+          drained.add(logEvents[index]);
+          logEvents[index] = null;
+        }
+        head = 0;
+        count = 0;
+        return drained;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
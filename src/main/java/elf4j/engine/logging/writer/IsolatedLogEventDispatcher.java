@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * Dispatches in {@link Mode#ISOLATED} mode: each writer is given a bounded queue and worker thread
+ * of its own, so a writer that blocks or slows down only backs up its own queue, and is subject to
+ * its own overflow policy, while the other writers keep up.
+ */
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+final class IsolatedLogEventDispatcher extends QueueLogEventDispatcher {
+  /**
+   * @param writers each to be given a queue of its own
+   * @param writerFactoryClasses of the writers, in the same order, by which the queue capacity and
+   *     overflow handling can be configured per writer
+   * @param configurationProperties entire configuration
+   */
+  IsolatedLogEventDispatcher(
+      List<LogEventWriter> writers,
+      List<Class<? extends LogEventWriterFactory>> writerFactoryClasses,
+      ConfigurationProperties configurationProperties) {
+    super(startWriterLogEventQueues(writers, writerFactoryClasses, configurationProperties));
+  }
+
+  /**
+   * @return one queue per writer, in the same order as the writers, each with its own capacity and
+   *     overflow handling, and consumed only by its own writer
+   */
+  private static List<BoundedLogEventQueue> startWriterLogEventQueues(
+      List<LogEventWriter> writers,
+      List<Class<? extends LogEventWriterFactory>> writerFactoryClasses,
+      ConfigurationProperties configurationProperties) {
+    List<BoundedLogEventQueue> queues = new ArrayList<>(writers.size());
+    for (int i = 0; i < writers.size(); i++) {
+      LogEventWriter writer = writers.get(i);
+      Class<? extends LogEventWriterFactory> writerFactoryClass = writerFactoryClasses.get(i);
+      queues.add(startBoundedLogEventQueue(
+          "elf4j-writer-queue-" + i,
+          getQueueCapacity(writerFactoryClass, configurationProperties),
+          writerFactoryClass,
+          writer::write,
+          configurationProperties));
+    }
+    return queues;
+  }
+
+  @Override
+  public void dispatch(LogEvent logEvent) {
+    for (BoundedLogEventQueue boundedLogEventQueue : boundedLogEventQueues) {
+      boundedLogEventQueue.offer(logEvent);
+    }
+  }
+}
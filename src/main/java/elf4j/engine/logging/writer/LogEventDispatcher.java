@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import java.time.Duration;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Hands the log events over from the caller threads to the writers of a
+ * {@link CompositeLogEventWriter}, per one of its {@link Mode}s. The composite writer admits,
+ * suppresses, and records the events before they are dispatched; a dispatcher only decides how and
+ * by which threads they are written, and how the pending ones are drained on stop.
+ */
+interface LogEventDispatcher {
+  int DEFAULT_BATCH_SIZE = 256;
+
+  /** @param logEvent to hand over to the writers */
+  void dispatch(LogEvent logEvent);
+
+  /**
+   * Dispatches a log event of the specified detail, issued by the current thread, with the MDC
+   * context of the current thread.
+   *
+   * @implSpec The default implementation allocates a new event of the detail
+   */
+  default void dispatch(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      LogEvent.CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    dispatch(new LogEvent(
+        timestampNanos,
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame));
+  }
+
+  /**
+   * @return the number of lanes in which log events are currently written concurrently, or -1 if
+   *     unbounded
+   */
+  int laneCount();
+
+  /** @return counts of the log events that have overflowed or been dropped so far */
+  OverflowCounts overflowCounts();
+
+  /**
+   * Stops accepting log events, and waits for the pending events to be written out until the
+   * deadline; the events still pending then are abandoned.
+   *
+   * @param timeout the stop was given, to report
+   * @param deadlineNanos by {@link System#nanoTime()} to drain the pending log events
+   * @return counts of the pending log events drained and abandoned
+   */
+  DrainCounts stop(Duration timeout, long deadlineNanos);
+
+  static Duration remaining(long deadlineNanos) {
+    return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+  }
+
+  static int getBatchSize(ConfigurationProperties configurationProperties) {
+    return Optional.ofNullable(
+            configurationProperties.getAsInteger(ConfigurationProperties.BATCH_SIZE))
+        .orElse(DEFAULT_BATCH_SIZE);
+  }
+}
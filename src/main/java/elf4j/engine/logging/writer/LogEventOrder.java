@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OrderKey;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The configured {@link OrderKey} of a dispatcher, by which the log events are sequenced in the
+ * async executors, or distributed among the bounded queues.
+ */
+@ToString
+final class LogEventOrder {
+  /** Within the range of the boxed integers cached by {@link Integer#valueOf(int)} */
+  private static final int UNORDERED_KEYS = 128;
+
+  private final OrderKey orderKey;
+
+  /** Name of the MDC context entry that log events are kept in order by, if any */
+  private final @Nullable String orderKeyContext;
+
+  LogEventOrder(OrderKey orderKey, @Nullable String orderKeyContext) {
+    if (orderKey == OrderKey.CONTEXT && orderKeyContext == null) {
+      throw new IllegalArgumentException("Missing name of the context entry to order by: '%s'"
+          .formatted(ConfigurationProperties.ORDER_KEY_CONTEXT));
+    }
+    this.orderKey = orderKey;
+    this.orderKeyContext = orderKey == OrderKey.CONTEXT ? orderKeyContext : null;
+  }
+
+  static LogEventOrder from(ConfigurationProperties configurationProperties) {
+    String orderKey =
+        configurationProperties.properties().getProperty(ConfigurationProperties.ORDER_KEY);
+    String orderKeyContext =
+        configurationProperties.properties().getProperty(ConfigurationProperties.ORDER_KEY_CONTEXT);
+    return new LogEventOrder(
+        isNullOrEmpty(orderKey)
+            ? OrderKey.CALLER_THREAD
+            : OrderKey.valueOf(orderKey.strip().toUpperCase().replace('-', '_')),
+        isNullOrEmpty(orderKeyContext) ? null : orderKeyContext.strip());
+  }
+
+  /**
+   * @param logEvent to write
+   * @return the key by which the async executor sequences the writing of the log event; an event
+   *     missing the context entry to order by is ordered by its caller thread instead
+   */
+  Object sequenceKeyOf(LogEvent logEvent) {
+    return switch (orderKey) {
+      case CALLER_THREAD -> logEvent.callerThread().id();
+      case LOGGER -> logEvent.loggerName();
+      case CONTEXT -> {
+        assert orderKeyContext != null;
+        @Nullable String contextValue = logEvent.context().get(orderKeyContext);
+        yield contextValue == null ? logEvent.callerThread().id() : contextValue;
+      }
+      case GLOBAL -> OrderKey.GLOBAL;
+      case UNORDERED -> ThreadLocalRandom.current().nextInt(UNORDERED_KEYS);
+    };
+  }
+
+  /**
+   * @param logEvent to write
+   * @param queueCount number of bounded queues
+   * @return index of the bounded queue to offer the log event to
+   */
+  int queueIndexOf(LogEvent logEvent, int queueCount) {
+    return switch (orderKey) {
+      case CALLER_THREAD -> (int) Long.remainderUnsigned(logEvent.callerThread().id(), queueCount);
+      case GLOBAL -> 0;
+      case UNORDERED -> ThreadLocalRandom.current().nextInt(queueCount);
+      case LOGGER, CONTEXT -> Math.floorMod(sequenceKeyOf(logEvent).hashCode(), queueCount);
+    };
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Suppresses the repeats of a log event within a time window, keyed on the event's logger name,
+ * level, and unresolved message template. The first event of a key in a window is admitted, and its
+ * repeats in the same window are only counted. The count is then reported by a summary once the
+ * window has closed: by the first event of any key admitted after the close, as the closed windows
+ * are swept at most once per window length; by the next event of the key itself; when the key is
+ * evicted; or when the suppressor is flushed.
+ *
+ * <p>The number of keys tracked is bounded; beyond the bound, the closed windows are swept, and
+ * then the keys of the earliest opened windows evicted. A suppressed event thus costs a key lookup
+ * rather than an event rendering and write.
+ *
+ * @implNote The keys are kept in a {@link ConcurrentHashMap}, looked up without locking, with a
+ *     counter per key; the threads logging different keys do not contend. A window is reopened by
+ *     compare-and-set on its start, and its count reported by the one thread that reopens it. A key
+ *     no longer tracked has its counter retired atomically, so no repeat is counted unreported.
+ *     Only the eviction takes a lock, tried by the thread adding a key beyond the bound, which then
+ *     evicts a quarter of the bound at once, so the scan for the earliest windows is amortized.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class LogEventSuppressor {
+  @ToString.Include
+  private final Duration window;
+
+  @ToString.Include
+  private final int maxKeys;
+
+  private final long windowNanos;
+  private final SummaryWriter summaryWriter;
+  private final Map<Key, Repeats> repeatsByKey = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweepNanos;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  /**
+   * @param window within which the repeats of an admitted event are suppressed
+   * @param maxKeys max number of keys tracked, beyond which the earliest windows are evicted
+   * @param summaryWriter to report the number of repeats suppressed per key
+   */
+  LogEventSuppressor(Duration window, int maxKeys, SummaryWriter summaryWriter) {
+    this.window = window;
+    this.maxKeys = Math.max(1, maxKeys);
+    this.windowNanos = window.toNanos();
+    this.summaryWriter = summaryWriter;
+    this.nextSweepNanos = new AtomicLong(System.nanoTime() + windowNanos);
+  }
+
+  /**
+   * @param loggerName of the log event
+   * @param level of the log event
+   * @param message unresolved message template of the log event
+   * @return true if the log event is to be written, false if it is a suppressed repeat
+   */
+  boolean admit(String loggerName, Level level, @Nullable Object message) {
+    Key key = new Key(loggerName, level, message);
+    long now = System.nanoTime();
+    while (true) {
+      Repeats repeats = repeatsByKey.get(key);
+      if (repeats == null) {
+        if (repeatsByKey.putIfAbsent(key, new Repeats(key, now)) == null) {
+          sweepIfDue(now);
+          evictBeyondMaxKeys(now);
+          return true;
+        }
+        continue;
+      }
+      long windowStart = repeats.windowStartNanos.get();
+      if (now - windowStart < windowNanos
+          || !repeats.windowStartNanos.compareAndSet(windowStart, now)) {
+        if (repeats.suppress()) {
+          sweepIfDue(now);
+          return false;
+        }
+        continue;
+      }
+      long suppressedCount = repeats.takeSuppressedCount();
+      if (suppressedCount < 0) {
+        continue;
+      }
+      report(key, suppressedCount);
+      sweepIfDue(now);
+      return true;
+    }
+  }
+
+  /** Reports the repeats suppressed so far of all keys, and stops tracking the keys. */
+  void flush() {
+    for (Repeats repeats : repeatsByKey.values()) {
+      retire(repeats);
+    }
+  }
+
+  /** Sweeps the closed windows, by at most one caller once per window length */
+  private void sweepIfDue(long now) {
+    long nextSweep = nextSweepNanos.get();
+    if (now - nextSweep >= 0 && nextSweepNanos.compareAndSet(nextSweep, now + windowNanos)) {
+      sweep(now);
+    }
+  }
+
+  /** Reports the repeats of the closed windows, and stops tracking their keys */
+  private void sweep(long now) {
+    for (Repeats repeats : repeatsByKey.values()) {
+      if (now - repeats.windowStartNanos.get() >= windowNanos) {
+        retire(repeats);
+      }
+    }
+  }
+
+  private void evictBeyondMaxKeys(long now) {
+    if (repeatsByKey.size() <= maxKeys || !evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      sweep(now);
+      int excess = repeatsByKey.size() - maxKeys;
+      if (excess <= 0) {
+        return;
+      }
+      List<Repeats> earliest = new ArrayList<>(repeatsByKey.values());
+      earliest.sort(Comparator.comparingLong(repeats -> repeats.windowStartNanos.get()));
+      for (Repeats repeats : earliest.subList(0, Math.min(earliest.size(), excess + maxKeys / 4))) {
+        retire(repeats);
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /** Stops tracking the key of the repeats, if not yet, and reports the repeats counted so far */
+  private void retire(Repeats repeats) {
+    if (repeatsByKey.remove(repeats.key, repeats)) {
+      report(repeats.key, repeats.retire());
+    }
+  }
+
+  private void report(Key key, long suppressedCount) {
+    if (suppressedCount > 0) {
+      summaryWriter.write(key.loggerName, key.level, key.message, suppressedCount);
+    }
+  }
+
+  /** Reports the number of repeats suppressed of a log event key */
+  @FunctionalInterface
+  interface SummaryWriter {
+    /**
+     * @param loggerName of the suppressed log events
+     * @param level of the suppressed log events
+     * @param message unresolved message template of the suppressed log events
+     * @param suppressedCount number of the log events suppressed
+     */
+    void write(String loggerName, Level level, @Nullable Object message, long suppressedCount);
+  }
+
+  private record Key(String loggerName, Level level, @Nullable Object message) {}
+
+  /**
+   * The window and the suppressed count of a key. Once its key is no longer tracked, the repeats
+   * are retired by setting the count to a negative sentinel, so a thread that looked them up just
+   * before cannot count a repeat that would never be reported; it looks the key up again instead.
+   */
+  private static final class Repeats {
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    final Key key;
+    final AtomicLong windowStartNanos;
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    Repeats(Key key, long windowStartNanos) {
+      this.key = key;
+      this.windowStartNanos = new AtomicLong(windowStartNanos);
+    }
+
+    /** @return true if a repeat is counted, false if the repeats are retired */
+    boolean suppress() {
+      return suppressedCount.getAndIncrement() >= 0;
+    }
+
+    /** @return the repeats counted so far, reset to zero; or -1 if the repeats are retired */
+    long takeSuppressedCount() {
+      while (true) {
+        long count = suppressedCount.get();
+        if (count < 0) {
+          return -1;
+        }
+        if (suppressedCount.compareAndSet(count, 0)) {
+          return count;
+        }
+      }
+    }
+
+    /** @return the repeats counted so far, after which no more are counted */
+    long retire() {
+      return suppressedCount.getAndSet(RETIRED);
+    }
+  }
+}
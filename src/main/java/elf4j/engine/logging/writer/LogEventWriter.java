@@ -27,6 +27,7 @@ package elf4j.engine.logging.writer;
 
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.PerformanceSensitive;
+import java.util.List;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -50,4 +51,26 @@ public interface LogEventWriter extends PerformanceSensitive {
    * @param logEvent the log data entry to write out
    */
   void write(LogEvent logEvent);
+
+  /**
+   * Writes the given batch of log events, in order, to the output destination(s) configured for
+   * this writer. Called instead of {@link #write(LogEvent)} by the dispatch modes that drain their
+   * queues in batches; a writer may override it to render many events into one buffer and ship them
+   * in a single output operation.
+   *
+   * @param logEvents the log data entries to write out, in order. The list, and the events in it,
+   *     are only valid for the duration of the call, and must not be retained or modified.
+   */
+  default void write(List<LogEvent> logEvents) {
+    for (LogEvent logEvent : logEvents) {
+      write(logEvent);
+    }
+  }
+
+  /**
+   * Flushes any log output this writer buffers, e.g. called once the pending events are drained on
+   * stop. A writer that ships each write out as it is made, as the standard stream writer does, has
+   * nothing to flush.
+   */
+  default void flush() {}
 }
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.ToString;
+
+/**
+ * Counts the async write tasks submitted and not yet finished, so that a stop can wait for them to
+ * drain before the executors are shut down, without polling. Shutting down a per-key sequencing
+ * executor first would reject the tasks still chained behind the running ones.
+ *
+ * @implNote The counts are striped {@link LongAdder}s, so the submitting and finishing threads do
+ *     not contend on a single counter. Only once a drain has started does a finishing task take the
+ *     lock, to signal the draining thread when no task is pending.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class PendingTasks {
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder finished = new LongAdder();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition drained = lock.newCondition();
+  private volatile boolean draining;
+
+  /** To be called before a task is submitted */
+  void submitted() {
+    submitted.increment();
+  }
+
+  /** To be called when a submitted task finishes, normally or not */
+  void finished() {
+    finished.increment();
+    if (draining && pendingCount() == 0) {
+      lock.lock();
+      try {
+        drained.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /** @return the number of the tasks submitted and not yet finished */
+  @ToString.Include
+  long pendingCount() {
+    long finishedCount = finished.sum();
+    return Math.max(0, submitted.sum() - finishedCount);
+  }
+
+  /** @return the number of the tasks finished so far */
+  long finishedCount() {
+    return finished.sum();
+  }
+
+  /**
+   * Waits until no task is pending, or the deadline passes.
+   *
+   * @param deadlineNanos by {@link System#nanoTime()}, after which to stop waiting
+   * @return the number of the tasks still pending, zero if all drained by the deadline
+   */
+  long awaitDrained(long deadlineNanos) {
+    draining = true;
+    lock.lock();
+    try {
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      while (pendingCount() > 0 && remainingNanos > 0) {
+        remainingNanos = drained.awaitNanos(remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+    return pendingCount();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowPolicy;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.WorkerThreads;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base of the dispatchers that queue the log events into {@link BoundedLogEventQueue}s, each
+ * drained by its own worker thread, in {@link Mode#BOUNDED} and {@link Mode#ISOLATED} modes. The
+ * queues are counted and stopped alike; the subclasses differ in the queues an event is offered to.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+abstract class QueueLogEventDispatcher implements LogEventDispatcher {
+  private static final Logger LOGGER = UtilLogger.INFO;
+  private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+  private static final Level DEFAULT_QUEUE_OVERFLOW_LEVEL = Level.WARN;
+
+  @ToString.Include
+  final List<BoundedLogEventQueue> boundedLogEventQueues;
+
+  QueueLogEventDispatcher(List<BoundedLogEventQueue> boundedLogEventQueues) {
+    this.boundedLogEventQueues = List.copyOf(boundedLogEventQueues);
+  }
+
+  /**
+   * @param name of the queue
+   * @param capacity of the queue
+   * @param writerFactoryClass of the only writer consuming the queue, whose per-writer overflow
+   *     configuration, if any, overrides the global one; null if the queue is consumed by all
+   *     writers
+   * @param batchConsumer of the queue
+   * @param configurationProperties entire configuration
+   * @return a started queue
+   */
+  static BoundedLogEventQueue startBoundedLogEventQueue(
+      String name,
+      int capacity,
+      @Nullable Class<? extends LogEventWriterFactory> writerFactoryClass,
+      Consumer<List<LogEvent>> batchConsumer,
+      ConfigurationProperties configurationProperties) {
+    String overflow = configurationProperties
+        .properties()
+        .getProperty(writerKey(
+            ConfigurationProperties.QUEUE_OVERFLOW, writerFactoryClass, configurationProperties));
+    OverflowPolicy overflowPolicy = isNullOrEmpty(overflow)
+        ? OverflowPolicy.BLOCK
+        : OverflowPolicy.valueOf(overflow.strip().toUpperCase().replace('-', '_'));
+    Level overflowLevel = Optional.ofNullable(configurationProperties.getAsLevel(writerKey(
+            ConfigurationProperties.QUEUE_OVERFLOW_LEVEL,
+            writerFactoryClass,
+            configurationProperties)))
+        .orElse(DEFAULT_QUEUE_OVERFLOW_LEVEL);
+    @Nullable Level priorityLevel = configurationProperties.getAsLevel(writerKey(
+        ConfigurationProperties.PRIORITY_LEVEL, writerFactoryClass, configurationProperties));
+    Duration linger = Duration.ofMillis(Optional.ofNullable(
+            configurationProperties.getAsInteger(ConfigurationProperties.BATCH_LINGER_MS))
+        .orElse(0));
+    return BoundedLogEventQueue.start(
+        name,
+        capacity,
+        overflowPolicy,
+        overflowLevel,
+        priorityLevel,
+        LogEventDispatcher.getBatchSize(configurationProperties),
+        linger,
+        getWorkerThreads(configurationProperties).newBuilder(),
+        batchConsumer);
+  }
+
+  static int getQueueCapacity(
+      @Nullable Class<? extends LogEventWriterFactory> writerFactoryClass,
+      ConfigurationProperties configurationProperties) {
+    return Optional.ofNullable(configurationProperties.getAsInteger(writerKey(
+            ConfigurationProperties.QUEUE_CAPACITY, writerFactoryClass, configurationProperties)))
+        .orElse(DEFAULT_QUEUE_CAPACITY);
+  }
+
+  /**
+   * @param name of the property
+   * @param writerFactoryClass of the writer, if any
+   * @param configurationProperties entire configuration
+   * @return the property name suffixed with the writer factory class name, if the property is so
+   *     configured for the writer; otherwise, the global property name
+   */
+  private static String writerKey(
+      String name,
+      @Nullable Class<? extends LogEventWriterFactory> writerFactoryClass,
+      ConfigurationProperties configurationProperties) {
+    if (writerFactoryClass == null) {
+      return name;
+    }
+    String writerName =
+        name + ConfigurationProperties.LEVEL_NAME_DELIMITER + writerFactoryClass.getName();
+    return configurationProperties.properties().containsKey(writerName) ? writerName : name;
+  }
+
+  private static WorkerThreads getWorkerThreads(ConfigurationProperties configurationProperties) {
+    String workerThreads =
+        configurationProperties.properties().getProperty(ConfigurationProperties.QUEUE_THREADS);
+    return isNullOrEmpty(workerThreads)
+        ? WorkerThreads.PLATFORM
+        : WorkerThreads.valueOf(workerThreads.strip().toUpperCase());
+  }
+
+  /** @return the number of bounded queues, each drained by a worker thread of its own */
+  @Override
+  public int laneCount() {
+    return boundedLogEventQueues.size();
+  }
+
+  /** @return counts of the log events that have overflowed the bounded queues so far */
+  @Override
+  public OverflowCounts overflowCounts() {
+    return boundedLogEventQueues.stream()
+        .map(BoundedLogEventQueue::overflowCounts)
+        .reduce(new OverflowCounts(0, 0, 0), OverflowCounts::plus);
+  }
+
+  @Override
+  public DrainCounts stop(Duration timeout, long deadlineNanos) {
+    LOGGER.info("Stopping %s".formatted(this));
+    long pending = 0;
+    for (BoundedLogEventQueue boundedLogEventQueue : boundedLogEventQueues) {
+      pending += boundedLogEventQueue.pendingCount();
+    }
+    long droppedBefore = overflowCounts().dropped();
+    long abandoned = 0;
+    for (BoundedLogEventQueue boundedLogEventQueue : boundedLogEventQueues) {
+      if (!boundedLogEventQueue.stop(LogEventDispatcher.remaining(deadlineNanos))) {
+        int abandonedCount = boundedLogEventQueue.abandon();
+        abandoned += abandonedCount;
+        LOGGER.warn("Bounded queue %s still not drained after %s, abandoned %s event(s)"
+            .formatted(boundedLogEventQueue, timeout, abandonedCount));
+      }
+    }
+    // including the events of the callers blocked on full queues, dropped as the queues stop
+    long dropped = overflowCounts().dropped() - droppedBefore;
+    DrainCounts drainCounts =
+        new DrainCounts(Math.max(0, pending - abandoned), abandoned + dropped);
+    LOGGER.info("Stopped %s with overflow counts %s and drain counts %s"
+        .formatted(this, overflowCounts(), drainCounts));
+    return drainCounts;
+  }
+}
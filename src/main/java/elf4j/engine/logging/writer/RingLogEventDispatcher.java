@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import elf4j.Level;
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.LogEventRingBuffer;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.CopyOnWriteMdcAdapter;
+
+/**
+ * Dispatches in {@link Mode#RING} mode: the log events are filled into the reusable slots of a
+ * {@link LogEventRingBuffer}, and written in batches by its single consumer thread, in the order
+ * they are published. A log call by detail allocates no event or task object.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class RingLogEventDispatcher implements LogEventDispatcher {
+  private static final Logger LOGGER = UtilLogger.INFO;
+  private static final int DEFAULT_RING_SIZE = 1024;
+
+  @ToString.Include
+  private final LogEventRingBuffer logEventRingBuffer;
+
+  RingLogEventDispatcher(
+      List<LogEventWriter> writers, ConfigurationProperties configurationProperties) {
+    this.logEventRingBuffer = LogEventRingBuffer.start(
+        Optional.ofNullable(configurationProperties.getAsInteger(ConfigurationProperties.RING_SIZE))
+            .orElse(DEFAULT_RING_SIZE),
+        LogEventDispatcher.getBatchSize(configurationProperties),
+        getRingWaitStrategy(configurationProperties),
+        logEvents -> {
+          for (LogEventWriter writer : writers) {
+            writer.write(logEvents);
+          }
+        });
+  }
+
+  private static LogEventRingBuffer.WaitStrategy getRingWaitStrategy(
+      ConfigurationProperties configurationProperties) {
+    String waitStrategy =
+        configurationProperties.properties().getProperty(ConfigurationProperties.RING_WAIT);
+    return isNullOrEmpty(waitStrategy)
+        ? LogEventRingBuffer.WaitStrategy.PARK
+        : LogEventRingBuffer.WaitStrategy.valueOf(waitStrategy.strip().toUpperCase());
+  }
+
+  @Override
+  public void dispatch(LogEvent logEvent) {
+    logEventRingBuffer.publish(
+        logEvent.timestampNanos(),
+        logEvent.loggerName(),
+        logEvent.level(),
+        logEvent.throwable(),
+        logEvent.message(),
+        logEvent.arguments(),
+        logEvent.callerThread(),
+        logEvent.callerFrame(),
+        logEvent.context());
+  }
+
+  /** Fills the detail into a reusable event slot rather than a newly allocated event */
+  @Override
+  public void dispatch(
+      long timestampNanos,
+      String loggerName,
+      Level level,
+      @Nullable Throwable throwable,
+      @Nullable Object message,
+      Object @Nullable [] arguments,
+      LogEvent.CallerThreadValue callerThread,
+      LogEvent.@Nullable CallerFrameValue callerFrame) {
+    logEventRingBuffer.publish(
+        timestampNanos,
+        loggerName,
+        level,
+        throwable,
+        message,
+        arguments,
+        callerThread,
+        callerFrame,
+        CopyOnWriteMdcAdapter.contextSnapshot());
+  }
+
+  /** @return 1, the single consumer thread */
+  @Override
+  public int laneCount() {
+    return 1;
+  }
+
+  /** @return counts of only the events dropped by the ring buffer */
+  @Override
+  public OverflowCounts overflowCounts() {
+    return new OverflowCounts(logEventRingBuffer.droppedCount(), 0, 0);
+  }
+
+  @Override
+  public DrainCounts stop(Duration timeout, long deadlineNanos) {
+    LOGGER.info("Stopping %s".formatted(this));
+    long consumedBefore = logEventRingBuffer.consumedCount();
+    long abandoned;
+    if (logEventRingBuffer.stop(LogEventDispatcher.remaining(deadlineNanos))) {
+      // claimed by the callers dropped as the ring stopped, or published behind such a claim
+      abandoned = logEventRingBuffer.pendingCount();
+    } else {
+      abandoned = logEventRingBuffer.abandon();
+      LOGGER.warn("Ring buffer %s still not drained after %s, abandoned %s event(s)"
+          .formatted(logEventRingBuffer, timeout, abandoned));
+    }
+    DrainCounts drainCounts =
+        new DrainCounts(logEventRingBuffer.consumedCount() - consumedBefore, abandoned);
+    LOGGER.info("Stopped %s with drain counts %s".formatted(this, drainCounts));
+    return drainCounts;
+  }
+}
@@ -33,6 +33,7 @@ import elf4j.engine.logging.pattern.RenderingPattern;
 import elf4j.util.UtilLogger;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import lombok.ToString;
 import lombok.Value;
@@ -48,6 +49,7 @@ import lombok.Value;
 @Value
 @ToString
 public class StandardStreamLogEventWriter implements LogEventWriter {
+  private static final Logger LOGGER = UtilLogger.ERROR;
   static final String DEFAULT_PATTERN = "{timestamp} {level} {logger} - {message}";
   static final OutStreamType DEFAULT_OUT_STREAM_TYPE = STDOUT;
   static final String LINE_FEED = System.lineSeparator();
@@ -74,6 +76,32 @@ public class StandardStreamLogEventWriter implements LogEventWriter {
     standardOutputStream.write(bytes);
   }
 
+  /**
+   * Renders the given batch of log events into one buffer, and writes it to the configured output
+   * stream in a single write-and-flush operation. An event that fails to render is skipped, and
+   * does not fail the rest of the batch.
+   *
+   * @param logEvents the log events to write, in order
+   */
+  @Override
+  public void write(List<LogEvent> logEvents) {
+    StringBuilder target = new StringBuilder();
+    for (LogEvent logEvent : logEvents) {
+      int rendered = target.length();
+      try {
+        logPattern.render(logEvent, target);
+        target.append(LINE_FEED);
+      } catch (RuntimeException e) {
+        target.setLength(rendered);
+        LOGGER.error("Failed to render log event %s".formatted(logEvent), e);
+      }
+    }
+    if (target.isEmpty()) {
+      return;
+    }
+    standardOutputStream.write(target.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
   /**
    * Returns whether the log pattern includes caller detail (e.g., source code location).
    *
@@ -132,8 +160,8 @@ public class StandardStreamLogEventWriter implements LogEventWriter {
 
     /**
      * @apiNote This method is supposed to be called once and only once per each entirely complete
-     *     log message.
-     * @param bytes of the completely rendered log message to write to the target output stream
+     *     log message, or batch of log messages.
+     * @param bytes of the completely rendered log message(s) to write to the target output stream
      */
     public void write(byte[] bytes) {
       OUTPUT_LOCK.lock();
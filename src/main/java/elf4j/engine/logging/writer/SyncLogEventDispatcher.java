@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.Mode;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.util.UtilLogger;
+import java.time.Duration;
+import java.util.List;
+import lombok.ToString;
+
+/**
+ * Dispatches in {@link Mode#SYNC} mode: the caller thread writes each log event to all the writers
+ * itself. No executor or worker thread is started, and there is nothing to drain on stop.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+final class SyncLogEventDispatcher implements LogEventDispatcher {
+  private static final Logger LOGGER = UtilLogger.INFO;
+
+  private final List<LogEventWriter> writers;
+
+  SyncLogEventDispatcher(List<LogEventWriter> writers) {
+    this.writers = writers;
+  }
+
+  /**
+   * Unlike the writing done by the async executor or the worker threads, an exception thrown by a
+   * writer here would otherwise reach the application's caller thread, and stop the event from
+   * reaching the rest of the writers.
+   */
+  @Override
+  public void dispatch(LogEvent logEvent) {
+    for (LogEventWriter writer : writers) {
+      try {
+        writer.write(logEvent);
+      } catch (RuntimeException e) {
+        LOGGER.error("Failed to write log event with %s".formatted(writer), e);
+      }
+    }
+  }
+
+  /** @return -1, as every caller thread writes in a lane of its own */
+  @Override
+  public int laneCount() {
+    return -1;
+  }
+
+  /** @return all zero, as nothing is queued */
+  @Override
+  public OverflowCounts overflowCounts() {
+    return new OverflowCounts(0, 0, 0);
+  }
+
+  @Override
+  public DrainCounts stop(Duration timeout, long deadlineNanos) {
+    return new DrainCounts(0, 0);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package org.slf4j;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.helpers.ThreadLocalMapOfStacks;
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * An MDC implementation that keeps the context of each thread as an immutable map, replaced as a
+ * whole on every update. Compared to the {@link org.slf4j.helpers.BasicMDCAdapter}, updating the
+ * context costs a copy of the map; in exchange, taking a snapshot of the context, which is done on
+ * every log call, is only a reference read of the current map, rather than a copy.
+ *
+ * @implNote As with the basic adapter, a child thread inherits the context of its parent thread;
+ *     being immutable, the parent's map is shared rather than copied.
+ */
+public class CopyOnWriteMdcAdapter implements MDCAdapter {
+  private final InheritableThreadLocal<Map<String, @Nullable String>> contextMap =
+      new InheritableThreadLocal<>() {
+        @Override
+        protected Map<String, @Nullable String> initialValue() {
+          return Collections.emptyMap();
+        }
+      };
+  private final ThreadLocalMapOfStacks contextDeques = new ThreadLocalMapOfStacks();
+
+  /**
+   * @return immutable snapshot of the current thread's MDC context, as a reference read if the
+   *     installed MDC adapter is a copy-on-write one, otherwise as a copy
+   */
+  public static Map<String, @Nullable String> contextSnapshot() {
+    if (MDC.getMDCAdapter() instanceof CopyOnWriteMdcAdapter copyOnWriteMdcAdapter) {
+      return copyOnWriteMdcAdapter.getContextSnapshot();
+    }
+    Map<String, String> copyOfContextMap = MDC.getCopyOfContextMap();
+    return copyOfContextMap == null || copyOfContextMap.isEmpty()
+        ? Collections.emptyMap()
+        : Collections.unmodifiableMap(copyOfContextMap);
+  }
+
+  /** @return the current thread's immutable context map, empty if no context is set */
+  public Map<String, @Nullable String> getContextSnapshot() {
+    return contextMap.get();
+  }
+
+  @Override
+  public void put(String key, @Nullable String val) {
+    Map<String, @Nullable String> updated = new HashMap<>(contextMap.get());
+    updated.put(key, val);
+    contextMap.set(Collections.unmodifiableMap(updated));
+  }
+
+  @Override
+  public @Nullable String get(String key) {
+    return contextMap.get().get(key);
+  }
+
+  @Override
+  public void remove(String key) {
+    Map<String, @Nullable String> current = contextMap.get();
+    if (!current.containsKey(key)) {
+      return;
+    }
+    Map<String, @Nullable String> updated = new HashMap<>(current);
+    updated.remove(key);
+    contextMap.set(
+        updated.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(updated));
+  }
+
+  @Override
+  public void clear() {
+    contextMap.remove();
+  }
+
+  @Override
+  public @Nullable Map<String, String> getCopyOfContextMap() {
+    Map<String, @Nullable String> current = contextMap.get();
+    return current.isEmpty() ? null : new HashMap<>(current);
+  }
+
+  @Override
+  public void setContextMap(@Nullable Map<String, String> contextMap) {
+    if (contextMap == null || contextMap.isEmpty()) {
+      this.contextMap.remove();
+      return;
+    }
+    this.contextMap.set(Collections.unmodifiableMap(new HashMap<>(contextMap)));
+  }
+
+  @Override
+  public void pushByKey(String key, String value) {
+    contextDeques.pushByKey(key, value);
+  }
+
+  @Override
+  public @Nullable String popByKey(String key) {
+    return contextDeques.popByKey(key);
+  }
+
+  @Override
+  public @Nullable Deque<String> getCopyOfDequeByKey(String key) {
+    return contextDeques.getCopyOfDequeByKey(key);
+  }
+
+  @Override
+  public void clearDequeByKey(String key) {
+    contextDeques.clearDequeByKey(key);
+  }
+}
@@ -1,6 +1,5 @@
 package org.slf4j;
 
-import org.slf4j.helpers.BasicMDCAdapter;
 import org.slf4j.helpers.NOPMDCAdapter;
 
 /** Initializes the SLF4J's MDC implementation */
@@ -9,12 +8,13 @@ public class MdcAdapterInitializer {
 
   /**
    * Initializes the MDC implementation for SLF4J. If no MDC adapter is set or if the current
-   * adapter is a NOPMDCAdapter, it sets the MDC adapter to a BasicMDCAdapter instance.
+   * adapter is a NOPMDCAdapter, it sets the MDC adapter to a {@link CopyOnWriteMdcAdapter}
+   * instance, of which the context snapshot taken per log event is a mere reference read.
    */
   public static void initialize() {
     var mdcAdapter = MDC.getMDCAdapter();
     if (mdcAdapter == null || mdcAdapter instanceof NOPMDCAdapter) {
-      MDC.setMDCAdapter(new BasicMDCAdapter());
+      MDC.setMDCAdapter(new CopyOnWriteMdcAdapter());
     }
   }
 }
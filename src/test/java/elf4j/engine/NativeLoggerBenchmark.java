@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine;
+
+import elf4j.Logger;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of log calls on a logger whose severity level is below the configured threshold, compared to
+ * a no-op baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeLoggerBenchmark {
+  Logger logger;
+  Logger disabled;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(NativeLoggerBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    logger = Logger.instance();
+    disabled = logger.atDebug();
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.LEVEL, "info");
+    NativeLogServiceManager.INSTANCE.restart(properties);
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void noop(Blackhole blackhole) {
+    blackhole.consume(disabled);
+  }
+
+  @Benchmark
+  public boolean disabledIsEnabled() {
+    return disabled.isEnabled();
+  }
+
+  @Benchmark
+  public void disabledLog() {
+    disabled.log("disabled message");
+  }
+
+  @Benchmark
+  public void disabledFluentLog() {
+    logger.atDebug().log("disabled message");
+  }
+
+  @Benchmark
+  public void disabledLogWithArguments() {
+    disabled.log("disabled message with {} and {}", "argument", 1);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine;
+
+import elf4j.Logger;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of obtaining a logger against the depth of the call stack, both through the static
+ * {@link Logger#instance()} access API of the facade and directly from the engine's factory
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeLoggerFactoryBenchmark {
+  @Param({"0", "50", "200"})
+  int extraStackDepth;
+
+  NativeLoggerFactory nativeLoggerFactory =
+      new NativeLoggerFactory(Set.of(AccessClass.class), NativeLoggerFactory.ELF4J_SERVICE_CLASSES);
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(NativeLoggerFactoryBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  private static Logger instanceAtDepth(int depth) {
+    return depth == 0 ? Logger.instance() : instanceAtDepth(depth - 1);
+  }
+
+  private static Logger getLoggerAtDepth(int depth, NativeLoggerFactory nativeLoggerFactory) {
+    return depth == 0
+        ? AccessClass.getLogger(nativeLoggerFactory)
+        : getLoggerAtDepth(depth - 1, nativeLoggerFactory);
+  }
+
+  @Benchmark
+  public Logger instance() {
+    return instanceAtDepth(extraStackDepth);
+  }
+
+  @Benchmark
+  public Logger factoryGetLogger() {
+    return getLoggerAtDepth(extraStackDepth, nativeLoggerFactory);
+  }
+
+  static class AccessClass {
+    static Logger getLogger(NativeLoggerFactory nativeLoggerFactory) {
+      return nativeLoggerFactory.getLogger();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package elf4j.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import elf4j.Logger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class NativeLoggerFactoryTest {
+  @Nested
+  class getLogger {
+    @Test
+    void namedAfterCallerClass() {
+      NativeLogger logger = (NativeLogger) Logger.instance();
+
+      assertEquals(getClass().getName(), logger.getLoggerId().loggerName());
+      assertEquals(NativeLoggerFactory.DEFAULT_LOG_SEVERITY_LEVEL, logger.getLevel());
+    }
+
+    @Test
+    void sameInstanceForSameCallerClass() {
+      assertSame(Logger.instance(), Logger.instance());
+    }
+
+    @Test
+    void differentInstanceForDifferentCallerClass() {
+      assertNotEquals(Logger.instance(), OtherCaller.logger());
+    }
+  }
+
+  static class OtherCaller {
+    static Logger logger() {
+      return Logger.instance();
+    }
+  }
+}
@@ -25,15 +25,20 @@
 
 package elf4j.engine;
 
+import static elf4j.Level.DEBUG;
 import static elf4j.Level.INFO;
 import static elf4j.Level.WARN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import elf4j.Logger;
 import elf4j.engine.logging.LogHandler;
@@ -77,6 +82,21 @@ class NativeLoggerTest {
       assertSame(warn, warn.atWarn());
       assertSame(error, error.atError());
     }
+
+    @Test
+    void sharedInstancePerLevel() {
+      NativeLogger sut = new NativeLogger(
+          new NativeLogger.LoggerId(this.getClass().getName(), INFO),
+          mock(RefreshableLogHandlerFactory.class));
+
+      NativeLogger debug = (NativeLogger) sut.atDebug();
+
+      assertSame(debug, sut.atDebug());
+      assertSame(debug, sut.atWarn().atDebug());
+      assertSame(sut, debug.atInfo());
+      assertEquals(
+          new NativeLogger.LoggerId(sut.getLoggerId().loggerName(), DEBUG), debug.getLoggerId());
+    }
   }
 
   @Nested
@@ -97,6 +117,61 @@ class NativeLoggerTest {
           .should()
           .isEnabled(new NativeLogger.LoggerId(sut.getLoggerId().loggerName(), sut.getLevel()));
     }
+
+    @Test
+    void cachedUntilGenerationChanges() {
+      RefreshableLogHandlerFactory refreshableLogHandlerFactory =
+          mock(RefreshableLogHandlerFactory.class);
+      LogHandler logHandler = mock(LogHandler.class);
+      given(refreshableLogHandlerFactory.getLogHandler()).willReturn(logHandler);
+      given(refreshableLogHandlerFactory.getGeneration()).willReturn(1L);
+      given(logHandler.isEnabled(any())).willReturn(true);
+      NativeLogger sut = new NativeLogger(
+          new NativeLogger.LoggerId(this.getClass().getName(), INFO), refreshableLogHandlerFactory);
+
+      assertTrue(sut.isEnabled());
+      assertTrue(sut.isEnabled());
+      then(logHandler).should(times(1)).isEnabled(any());
+
+      given(refreshableLogHandlerFactory.getGeneration()).willReturn(2L);
+      given(logHandler.isEnabled(any())).willReturn(false);
+
+      assertFalse(sut.isEnabled());
+      assertFalse(sut.isEnabled());
+      then(logHandler).should(times(2)).isEnabled(any());
+    }
+
+    @Test
+    void disabledLoggerSkipsService() {
+      RefreshableLogHandlerFactory refreshableLogHandlerFactory =
+          mock(RefreshableLogHandlerFactory.class);
+      LogHandler logHandler = mock(LogHandler.class);
+      given(refreshableLogHandlerFactory.getLogHandler()).willReturn(logHandler);
+      given(logHandler.isEnabled(any())).willReturn(false);
+      NativeLogger sut = new NativeLogger(
+          new NativeLogger.LoggerId(this.getClass().getName(), INFO), refreshableLogHandlerFactory);
+
+      sut.log("not to be serviced");
+
+      then(logHandler).should(never()).log(any(), any(), any(), any());
+    }
+
+    @Test
+    void disabledButRecordedLoggerDelegatesToService() {
+      RefreshableLogHandlerFactory refreshableLogHandlerFactory =
+          mock(RefreshableLogHandlerFactory.class);
+      LogHandler logHandler = mock(LogHandler.class);
+      given(refreshableLogHandlerFactory.getLogHandler()).willReturn(logHandler);
+      given(logHandler.isEnabled(any())).willReturn(false);
+      given(logHandler.isRecorded(any())).willReturn(true);
+      NativeLogger sut = new NativeLogger(
+          new NativeLogger.LoggerId(this.getClass().getName(), INFO), refreshableLogHandlerFactory);
+
+      sut.log("to be recorded");
+
+      assertFalse(sut.isEnabled());
+      then(logHandler).should().log(sut.getLoggerId(), null, "to be recorded", null);
+    }
   }
 
   @Nested
@@ -116,6 +191,7 @@ class NativeLoggerTest {
     @BeforeEach
     void beforeEach() {
       given(refreshableLogHandlerFactory.getLogHandler()).willReturn(logHandler);
+      given(logHandler.isEnabled(any())).willReturn(true);
       sut = new NativeLogger(
           new NativeLogger.LoggerId(NativeLoggerTest.class.getName(), INFO),
           refreshableLogHandlerFactory);
@@ -33,8 +33,7 @@ import static org.mockito.Mockito.*;
 import elf4j.Level;
 import elf4j.engine.NativeLogger;
 import elf4j.engine.logging.configuration.ConfigurationProperties;
-import elf4j.engine.logging.writer.LogEventWriter;
-import java.util.Objects;
+import elf4j.engine.logging.writer.CompositeLogEventWriter;
 import java.util.Properties;
 import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
@@ -70,6 +69,7 @@ class EventingLogHandlerTest {
 
   @Nested
   class log {
+    final String loggerName = this.getClass().getName();
 
     @Test
     void callWriter() {
@@ -79,53 +79,68 @@ class EventingLogHandlerTest {
           // log service API, only need a class here whose runtime caller class will be used to
           // render the log caller detail
           Set.of(LogHandler.class));
-      LogEventWriter mockLogEventWriter = mock(LogEventWriter.class);
+      CompositeLogEventWriter mockLogEventWriter = mock(CompositeLogEventWriter.class);
       ReflectionTestUtils.setField(logHandler, "logEventWriter", mockLogEventWriter);
+      Object[] arguments = {"arg"};
 
       logHandler.log(
-          new NativeLogger.LoggerId(this.getClass().getName(), Level.INFO), null, null, null);
+          new NativeLogger.LoggerId(loggerName, Level.INFO), null, "message {}", arguments);
 
-      then(mockLogEventWriter).should().write(any(LogEvent.class));
+      then(mockLogEventWriter)
+          .should()
+          .write(loggerName, Level.INFO, null, "message {}", arguments, null);
     }
 
     @Test
     void whenCallerDetailRequired() {
       LogHandler sut = new EventingLogHandler(
           ConfigurationProperties.bySetting(new Properties()), Set.of(this.getClass()));
-      LogEventWriter logEventWriter = mock(LogEventWriter.class);
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
       ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
-      given(logEventWriter.requiresCallerDetail()).willReturn(true);
-      ArgumentCaptor<LogEvent> logEvent = ArgumentCaptor.forClass(LogEvent.class);
+      given(logEventWriter.requiresCallerDetail(Level.INFO)).willReturn(true);
+      ArgumentCaptor<LogEvent.CallerFrameValue> callerFrame =
+          ArgumentCaptor.forClass(LogEvent.CallerFrameValue.class);
 
-      sut.log(new NativeLogger.LoggerId(this.getClass().getName(), Level.INFO), null, null, null);
+      sut.log(new NativeLogger.LoggerId(loggerName, Level.INFO), null, null, null);
 
-      then(logEventWriter).should().write(logEvent.capture());
-      assertEquals(
-          Thread.currentThread().getName(),
-          Objects.requireNonNull(logEvent.getValue().callerThread()).name());
+      then(logEventWriter)
+          .should()
+          .write(
+              eq(loggerName), eq(Level.INFO), isNull(), isNull(), isNull(), callerFrame.capture());
+      assertNotNull(callerFrame.getValue());
+    }
+
+    @Test
+    void callerFrameIsImmediatelyBelowLogService() {
+      LogHandler sut = new EventingLogHandler(
+          ConfigurationProperties.bySetting(new Properties()), Set.of(LogService.class));
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
+      ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
+      given(logEventWriter.requiresCallerDetail(Level.INFO)).willReturn(true);
+      ArgumentCaptor<LogEvent.CallerFrameValue> callerFrame =
+          ArgumentCaptor.forClass(LogEvent.CallerFrameValue.class);
+
+      new LogService(sut).info();
+
+      then(logEventWriter)
+          .should()
+          .write(any(), any(), isNull(), isNull(), isNull(), callerFrame.capture());
+      assertEquals(this.getClass().getName(), callerFrame.getValue().className());
       assertEquals(
-          Thread.currentThread().threadId(), logEvent.getValue().callerThread().id());
-      assertNotNull(logEvent.getValue().callerFrame());
+          "callerFrameIsImmediatelyBelowLogService", callerFrame.getValue().methodName());
     }
 
     @Test
     void whenCallerDetailNotRequired() {
       LogHandler sut = new EventingLogHandler(
           ConfigurationProperties.bySetting(new Properties()), Set.of(this.getClass()));
-      LogEventWriter logEventWriter = mock(LogEventWriter.class);
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
       ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
-      given(logEventWriter.requiresCallerDetail()).willReturn(false);
-      ArgumentCaptor<LogEvent> logEvent = ArgumentCaptor.forClass(LogEvent.class);
+      given(logEventWriter.requiresCallerDetail(Level.INFO)).willReturn(false);
 
-      sut.log(new NativeLogger.LoggerId(this.getClass().getName(), Level.INFO), null, null, null);
+      sut.log(new NativeLogger.LoggerId(loggerName, Level.INFO), null, null, null);
 
-      then(logEventWriter).should().write(logEvent.capture());
-      assertEquals(
-          Thread.currentThread().getName(),
-          Objects.requireNonNull(logEvent.getValue().callerThread()).name());
-      assertEquals(
-          Thread.currentThread().threadId(), logEvent.getValue().callerThread().id());
-      assertNull(logEvent.getValue().callerFrame());
+      then(logEventWriter).should().write(loggerName, Level.INFO, null, null, null, null);
     }
 
     @Test
@@ -134,12 +149,69 @@ class EventingLogHandlerTest {
       properties.setProperty(ConfigurationProperties.LEVEL, "info");
       LogHandler sut = new EventingLogHandler(
           ConfigurationProperties.bySetting(properties), Set.of(this.getClass()));
-      LogEventWriter logEventWriter = mock(LogEventWriter.class);
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
+      ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
+
+      sut.log(new NativeLogger.LoggerId(loggerName, Level.TRACE), null, null, null);
+
+      then(logEventWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void recordWhenNotEnabledButRecorded() {
+      var properties = new Properties();
+      properties.setProperty(ConfigurationProperties.LEVEL, "info");
+      properties.setProperty(ConfigurationProperties.RECORDER_SIZE, "8");
+      properties.setProperty(ConfigurationProperties.RECORDER_LEVEL, "debug");
+      LogHandler sut = new EventingLogHandler(
+          ConfigurationProperties.bySetting(properties), Set.of(this.getClass()));
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
       ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
+      given(logEventWriter.isRecorded(Level.DEBUG)).willReturn(true);
+      NativeLogger.LoggerId debugLoggerId = new NativeLogger.LoggerId(loggerName, Level.DEBUG);
+
+      sut.log(debugLoggerId, null, "message {}", new Object[] {1});
+
+      assertTrue(sut.isRecorded(debugLoggerId));
+      then(logEventWriter)
+          .should()
+          .record(loggerName, Level.DEBUG, null, "message {}", new Object[] {1});
+      then(logEventWriter).should(never()).write(any(), any(), any(), any(), any(), any());
+    }
 
-      sut.log(new NativeLogger.LoggerId(this.getClass().getName(), Level.TRACE), null, null, null);
+    @Test
+    void onlyLogWhenNotThrottled() {
+      var properties = new Properties();
+      properties.setProperty(ConfigurationProperties.SAMPLE + "@" + loggerName, "3");
+      LogHandler sut = new EventingLogHandler(
+          ConfigurationProperties.bySetting(properties), Set.of(this.getClass()));
+      CompositeLogEventWriter logEventWriter = mock(CompositeLogEventWriter.class);
+      ReflectionTestUtils.setField(sut, "logEventWriter", logEventWriter);
 
-      then(logEventWriter).should(never()).write(any(LogEvent.class));
+      for (int i = 0; i < 6; i++) {
+        sut.log(new NativeLogger.LoggerId(loggerName, Level.DEBUG), null, "message", null);
+      }
+
+      then(logEventWriter)
+          .should(times(2))
+          .write(loggerName, Level.DEBUG, null, "message", null, null);
+    }
+  }
+
+  static class LogService {
+    final LogHandler logHandler;
+
+    LogService(LogHandler logHandler) {
+      this.logHandler = logHandler;
+    }
+
+    void info() {
+      log();
+    }
+
+    void log() {
+      logHandler.log(
+          new NativeLogger.LoggerId(LogService.class.getName(), Level.INFO), null, null, null);
     }
   }
 }
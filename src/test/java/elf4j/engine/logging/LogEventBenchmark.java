@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import elf4j.Level;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of resolving the log message of an event, once or by each of several writers; and of
+ * describing the caller thread of an event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEventBenchmark {
+  static final String MESSAGE =
+      "Processed order {} for customer {} in {} ms, the order total is now ready to be shipped";
+  static final LogEvent.CallerThreadValue CALLER_THREAD =
+      new LogEvent.CallerThreadValue("main", 1L);
+
+  Instant timestamp = Instant.now();
+  Object[] arguments = {"ORD-123456", "CUST-7890", 42};
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(LogEventBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  private LogEvent newLogEvent() {
+    return new LogEvent(
+        timestamp, "benchmark", Level.INFO, null, MESSAGE, arguments, CALLER_THREAD, null);
+  }
+
+  @Benchmark
+  public CharSequence resolveOnce() {
+    return newLogEvent().getResolvedMessage();
+  }
+
+  @Benchmark
+  public int resolveByThreeWriters() {
+    LogEvent logEvent = newLogEvent();
+    return logEvent.getResolvedMessage().length()
+        + logEvent.getResolvedMessage().length()
+        + logEvent.getResolvedMessage().length();
+  }
+
+  @Benchmark
+  public LogEvent.CallerThreadValue newCallerThreadValue() {
+    Thread thread = Thread.currentThread();
+    return new LogEvent.CallerThreadValue(thread.getName(), thread.threadId());
+  }
+
+  @Benchmark
+  public LogEvent.CallerThreadValue cachedCallerThreadValue() {
+    return LogEvent.CallerThreadValue.ofCurrentThread();
+  }
+}
@@ -0,0 +1,72 @@
+package elf4j.engine.logging;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LogEventClockTest {
+  private static LogEventClock clockOf(String clock) {
+    Properties properties = new Properties();
+    properties.setProperty("clock", clock);
+    return LogEventClock.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @Nested
+  class from {
+    @Test
+    void defaultIsPrecise() {
+      assertSame(
+          LogEventClock.PRECISE,
+          LogEventClock.from(ConfigurationProperties.bySetting(new Properties())));
+    }
+
+    @Test
+    void builtInByName() {
+      assertSame(LogEventClock.PRECISE, clockOf("precise"));
+      assertSame(LogEventClock.MILLIS, clockOf(" Millis "));
+      CachedLogEventClock cached = assertInstanceOf(CachedLogEventClock.class, clockOf("cached"));
+      cached.stop();
+    }
+
+    @Test
+    void customByClassName() {
+      assertInstanceOf(FixedClock.class, clockOf(FixedClock.class.getName()));
+    }
+
+    @Test
+    void unknownClass() {
+      assertThrows(IllegalArgumentException.class, () -> clockOf("no.such.Clock"));
+    }
+  }
+
+  @Nested
+  class cached {
+    @Test
+    void ticksAndFallsBackToSystemClockOnceStopped() throws InterruptedException {
+      CachedLogEventClock sut = CachedLogEventClock.start();
+      long first = sut.epochNanos();
+
+      TimeUnit.MILLISECONDS.sleep(20);
+
+      assertTrue(sut.epochNanos() > first);
+      sut.stop();
+      long stopped = sut.epochNanos();
+      TimeUnit.MILLISECONDS.sleep(20);
+      assertTrue(sut.epochNanos() > stopped);
+    }
+  }
+
+  public static class FixedClock implements LogEventClock {
+    @Override
+    public long epochNanos() {
+      return 42;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+package elf4j.engine.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class LogEventRingBufferTest {
+  private static final LogEvent.CallerThreadValue CALLER_THREAD =
+      new LogEvent.CallerThreadValue("testThread", 1);
+
+  @Test
+  void capacityRoundedUpToPowerOfTwo() {
+    LogEventRingBuffer sut =
+        LogEventRingBuffer.start(1000, 16, LogEventRingBuffer.WaitStrategy.PARK, batch -> {});
+
+    assertEquals(1024, sut.capacity());
+    sut.stop(Duration.ofSeconds(1));
+  }
+
+  @Nested
+  class publish {
+    @Test
+    void dropsConsumerOwnCallsOnFullRingInsteadOfWaiting() throws InterruptedException {
+      List<String> consumed = new ArrayList<>();
+      LogEventRingBuffer[] ring = new LogEventRingBuffer[1];
+      CountDownLatch published = new CountDownLatch(1);
+      ring[0] = LogEventRingBuffer.start(2, 1, LogEventRingBuffer.WaitStrategy.PARK, batch -> {
+        for (LogEvent logEvent : batch) {
+          String message = (String) logEvent.message();
+          consumed.add(message);
+          if ("first".equals(message)) {
+            for (int i = 1; i <= 3; i++) {
+              ring[0].publish(
+                  LogEventClock.PRECISE.epochNanos(),
+                  "test",
+                  Level.INFO,
+                  null,
+                  "logged by writer " + i,
+                  null,
+                  CALLER_THREAD,
+                  null,
+                  Map.of());
+            }
+            published.countDown();
+          }
+        }
+      });
+
+      ring[0].publish(
+          LogEventClock.PRECISE.epochNanos(),
+          "test",
+          Level.INFO,
+          null,
+          "first",
+          null,
+          CALLER_THREAD,
+          null,
+          Map.of());
+
+      assertTrue(published.await(5, TimeUnit.SECONDS));
+      assertTrue(ring[0].stop(Duration.ofSeconds(5)));
+      assertEquals(List.of("first", "logged by writer 1"), consumed);
+      assertEquals(2, ring[0].droppedCount());
+    }
+
+    @Test
+    void keepsConsumingPastErrorOfBatchConsumer() {
+      List<String> consumed = new ArrayList<>();
+      LogEventRingBuffer sut =
+          LogEventRingBuffer.start(2, 1, LogEventRingBuffer.WaitStrategy.PARK, batch -> {
+            consumed.add(batch.getFirst().getResolvedMessage().toString());
+            throw new StackOverflowError("rendering a log argument");
+          });
+
+      assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+        for (int i = 0; i < 100; i++) {
+          sut.publish(
+              LogEventClock.PRECISE.epochNanos(),
+              "test",
+              Level.INFO,
+              null,
+              "{}",
+              new Object[] {i},
+              CALLER_THREAD,
+              null,
+              Map.of());
+        }
+      });
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+
+      assertEquals(
+          IntStream.range(0, 100).mapToObj(String::valueOf).toList(), List.copyOf(consumed));
+      assertEquals(0, sut.droppedCount());
+    }
+
+    @Test
+    void consumedInPublishOrder() {
+      List<String> consumed = new ArrayList<>();
+      LogEventRingBuffer sut = LogEventRingBuffer.start(
+          2,
+          2,
+          LogEventRingBuffer.WaitStrategy.PARK,
+          batch -> batch.forEach(
+              logEvent -> consumed.add(logEvent.getResolvedMessage().toString())));
+
+      for (int i = 0; i < 100; i++) {
+        sut.publish(
+            LogEventClock.PRECISE.epochNanos(),
+            "test",
+            Level.INFO,
+            null,
+            "{}",
+            new Object[] {i},
+            CALLER_THREAD,
+            null,
+            Map.of());
+      }
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+
+      assertEquals(100, consumed.size());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(String.valueOf(i), consumed.get(i));
+      }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LogEventRingBuffer.WaitStrategy.class)
+    void noEventLostByConcurrentPublishers(LogEventRingBuffer.WaitStrategy waitStrategy)
+        throws InterruptedException {
+      int publishers = 8;
+      int eventsPerPublisher = 10_000;
+      var consumed = ConcurrentHashMap.<String>newKeySet();
+      LogEventRingBuffer sut = LogEventRingBuffer.start(
+          64,
+          16,
+          waitStrategy,
+          batch -> batch.forEach(
+              logEvent -> consumed.add(logEvent.getResolvedMessage().toString())));
+      CountDownLatch done = new CountDownLatch(publishers);
+
+      try (var executor = Executors.newFixedThreadPool(publishers)) {
+        for (int p = 0; p < publishers; p++) {
+          int publisher = p;
+          executor.execute(() -> {
+            for (int i = 0; i < eventsPerPublisher; i++) {
+              sut.publish(
+                  LogEventClock.PRECISE.epochNanos(),
+                  "test",
+                  Level.INFO,
+                  null,
+                  "{}-{}",
+                  new Object[] {publisher, i},
+                  CALLER_THREAD,
+                  null,
+                  Map.of());
+            }
+            done.countDown();
+          });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+      }
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+
+      assertEquals(publishers * eventsPerPublisher, consumed.size());
+    }
+
+    @Test
+    void slotReleasedAfterConsumed() {
+      List<LogEvent> consumed = new ArrayList<>();
+      LogEventRingBuffer sut =
+          LogEventRingBuffer.start(1, 1, LogEventRingBuffer.WaitStrategy.PARK, consumed::addAll);
+
+      sut.publish(
+          LogEventClock.PRECISE.epochNanos(),
+          "test",
+          Level.INFO,
+          null,
+          "message",
+          null,
+          CALLER_THREAD,
+          null,
+          Map.of());
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+
+      assertEquals(1, consumed.size());
+      assertEquals("null", consumed.getFirst().getResolvedMessage().toString());
+    }
+
+    @Test
+    void consumedInBatchesOfUpToBatchSize() throws InterruptedException {
+      List<Integer> batchSizes = new ArrayList<>();
+      List<String> consumed = new ArrayList<>();
+      CountDownLatch firstBatchTaken = new CountDownLatch(1);
+      CountDownLatch allPublished = new CountDownLatch(1);
+      LogEventRingBuffer sut =
+          LogEventRingBuffer.start(16, 4, LogEventRingBuffer.WaitStrategy.PARK, batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(logEvent -> consumed.add(logEvent.getResolvedMessage().toString()));
+            firstBatchTaken.countDown();
+            try {
+              allPublished.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+
+      sut.publish(
+          LogEventClock.PRECISE.epochNanos(),
+          "test",
+          Level.INFO,
+          null,
+          "first",
+          null,
+          CALLER_THREAD,
+          null,
+          Map.of());
+      assertTrue(firstBatchTaken.await(5, TimeUnit.SECONDS));
+      for (int i = 0; i < 10; i++) {
+        sut.publish(
+            LogEventClock.PRECISE.epochNanos(),
+            "test",
+            Level.INFO,
+            null,
+            "{}",
+            new Object[] {i},
+            CALLER_THREAD,
+            null,
+            Map.of());
+      }
+      allPublished.countDown();
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+
+      assertEquals(List.of(1, 4, 4, 2), batchSizes);
+      assertEquals("first", consumed.getFirst());
+      assertEquals(11, consumed.size());
+    }
+  }
+}
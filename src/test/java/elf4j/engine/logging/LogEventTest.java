@@ -0,0 +1,148 @@
+package elf4j.engine.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import elf4j.Level;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LogEventTest {
+  @Test
+  void reusableEventEqualOnlyToItself() {
+    LogEvent immutable = new LogEvent(
+        1L,
+        "testLogger",
+        Level.INFO,
+        null,
+        "a",
+        null,
+        LogEvent.CallerThreadValue.ofCurrentThread(),
+        null);
+    ReusableLogEvent reusable = new ReusableLogEvent();
+    reusable.reset(
+        1L,
+        "testLogger",
+        Level.INFO,
+        null,
+        "a",
+        null,
+        LogEvent.CallerThreadValue.ofCurrentThread(),
+        null,
+        immutable.context());
+    int hashCode = reusable.hashCode();
+
+    reusable.clear();
+
+    assertEquals(reusable, reusable);
+    assertEquals(hashCode, reusable.hashCode());
+    assertNotEquals(immutable, reusable);
+    assertNotEquals(reusable, immutable);
+  }
+
+  private static LogEvent logEvent(@Nullable Object message, Object... arguments) {
+    return LogEvent.builder()
+        .loggerName("testLogger")
+        .level(Level.INFO)
+        .message(message)
+        .arguments(arguments)
+        .callerThread(new LogEvent.CallerThreadValue("testThread", 1))
+        .build();
+  }
+
+  @Nested
+  class getResolvedMessage {
+    @Test
+    void resolvesArguments() {
+      assertEquals("a=1, b=2", logEvent("a={}, b={}", 1, 2).getResolvedMessage().toString());
+    }
+
+    @Test
+    void resolvesSuppliedMessageAndArguments() {
+      Supplier<String> message = () -> "a={}, b={}";
+      Supplier<Integer> argument = () -> 2;
+
+      assertEquals(
+          "a=1, b=2", logEvent(message, 1, argument).getResolvedMessage().toString());
+    }
+
+    @Test
+    void whenNoArgument_thenMessageAsIs() {
+      assertEquals("a={}", logEvent("a={}").getResolvedMessage().toString());
+      assertEquals("null", logEvent(null).getResolvedMessage().toString());
+      assertEquals("42", logEvent(42, 1).getResolvedMessage().toString());
+    }
+
+    @Test
+    void memoized() {
+      AtomicInteger supplied = new AtomicInteger();
+      Supplier<Integer> argument = supplied::incrementAndGet;
+      LogEvent sut = logEvent("supplied {} time(s)", argument);
+
+      CharSequence resolved = sut.getResolvedMessage();
+
+      assertSame(resolved, sut.getResolvedMessage());
+      assertEquals("supplied 1 time(s)", resolved.toString());
+      assertEquals(1, supplied.get());
+    }
+  }
+
+  @Nested
+  class callerThreadValueOfCurrentThread {
+    @Test
+    void cachedPerPlatformThread() {
+      LogEvent.CallerThreadValue callerThreadValue = LogEvent.CallerThreadValue.ofCurrentThread();
+
+      assertEquals(Thread.currentThread().getName(), callerThreadValue.name());
+      assertEquals(Thread.currentThread().threadId(), callerThreadValue.id());
+      assertSame(callerThreadValue, LogEvent.CallerThreadValue.ofCurrentThread());
+    }
+
+    @Test
+    void renameDetected() {
+      Thread thread = Thread.currentThread();
+      String originalName = thread.getName();
+      try {
+        LogEvent.CallerThreadValue before = LogEvent.CallerThreadValue.ofCurrentThread();
+        thread.setName("renamed-" + originalName);
+
+        LogEvent.CallerThreadValue after = LogEvent.CallerThreadValue.ofCurrentThread();
+
+        assertNotSame(before, after);
+        assertEquals("renamed-" + originalName, after.name());
+        assertEquals(before.id(), after.id());
+      } finally {
+        thread.setName(originalName);
+      }
+    }
+
+    @Test
+    void cachedPerVirtualThread() throws InterruptedException {
+      AtomicReference<LogEvent.CallerThreadValue> first = new AtomicReference<>();
+      AtomicReference<LogEvent.CallerThreadValue> second = new AtomicReference<>();
+      AtomicReference<LogEvent.CallerThreadValue> renamed = new AtomicReference<>();
+
+      Thread virtualThread = Thread.ofVirtual().name("testVirtualThread").start(() -> {
+        first.set(LogEvent.CallerThreadValue.ofCurrentThread());
+        second.set(LogEvent.CallerThreadValue.ofCurrentThread());
+        Thread.currentThread().setName("renamedVirtualThread");
+        renamed.set(LogEvent.CallerThreadValue.ofCurrentThread());
+      });
+      virtualThread.join();
+
+      assertEquals(
+          new LogEvent.CallerThreadValue("testVirtualThread", virtualThread.threadId()),
+          first.get());
+      assertSame(first.get(), second.get());
+      assertEquals(
+          new LogEvent.CallerThreadValue("renamedVirtualThread", virtualThread.threadId()),
+          renamed.get());
+    }
+  }
+}
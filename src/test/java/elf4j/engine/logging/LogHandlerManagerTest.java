@@ -3,9 +3,11 @@ package elf4j.engine.logging;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import elf4j.Logger;
 import elf4j.engine.NativeLogger;
+import java.time.Duration;
 import java.util.Properties;
 import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.*;
@@ -37,6 +39,26 @@ class LogHandlerManagerTest {
           RejectedExecutionException.class,
           () -> logger.log("after shutdown... Should be rejected and not show in Console"));
     }
+
+    @Test
+    void stopsStoppablesInParallel() {
+      Duration stopTime = Duration.ofMillis(300);
+      for (int i = 0; i < 3; i++) {
+        NativeLogServiceManager.INSTANCE.register(() -> {
+          try {
+            Thread.sleep(stopTime);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+
+      long start = System.nanoTime();
+      NativeLogServiceManager.INSTANCE.shutdown();
+
+      assertTrue(
+          Duration.ofNanos(System.nanoTime() - start).compareTo(stopTime.multipliedBy(2)) < 0);
+    }
   }
 
   @Nested
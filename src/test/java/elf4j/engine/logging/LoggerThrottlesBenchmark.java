@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging;
+
+import elf4j.Level;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of a sampling or rate limit decision for a hot logger shared by several caller threads, the
+ * rate limit being mostly exceeded. Run with {@code -prof gc} to see the decisions allocate
+ * nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Delf4j.internal.log.min.level=warn")
+public class LoggerThrottlesBenchmark {
+  private static final String LOGGER_NAME = "com.acme.orders.OrderService";
+
+  @Param({"sample", "first-then-sample", "rate"})
+  String throttle;
+
+  LoggerThrottles loggerThrottles;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(LoggerThrottlesBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Properties properties = new Properties();
+    switch (throttle) {
+      case "sample" -> properties.setProperty("sample@com.acme.orders", "100");
+      case "first-then-sample" -> properties.setProperty("sample@com.acme.orders", "1000,100");
+      case "rate" -> properties.setProperty("rate@com.acme.orders", "1000");
+      default -> throw new IllegalArgumentException(throttle);
+    }
+    loggerThrottles = LoggerThrottles.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @Benchmark
+  public boolean tryAcquire() {
+    return loggerThrottles.tryAcquire(LOGGER_NAME, Level.DEBUG);
+  }
+}
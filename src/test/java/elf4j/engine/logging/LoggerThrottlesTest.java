@@ -0,0 +1,166 @@
+package elf4j.engine.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LoggerThrottlesTest {
+  static LoggerThrottles throttles(String... keyValues) {
+    Properties properties = new Properties();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      properties.setProperty(keyValues[i], keyValues[i + 1]);
+    }
+    LoggerThrottles loggerThrottles =
+        LoggerThrottles.from(ConfigurationProperties.bySetting(properties));
+    assert loggerThrottles != null;
+    return loggerThrottles;
+  }
+
+  static long admitted(LoggerThrottles sut, String loggerName, Level level, int events) {
+    return IntStream.range(0, events)
+        .filter(i -> sut.tryAcquire(loggerName, level))
+        .count();
+  }
+
+  @Test
+  void absentWhenNoneConfigured() {
+    Properties properties = new Properties();
+    properties.setProperty("level@com.acme", "debug");
+
+    assertNull(LoggerThrottles.from(ConfigurationProperties.bySetting(properties)));
+  }
+
+  @Nested
+  class sample {
+    @Test
+    void oneInN() {
+      LoggerThrottles sut = throttles("sample@com.acme", "10");
+
+      assertEquals(10, admitted(sut, "com.acme.Orders", Level.DEBUG, 100));
+    }
+
+    @Test
+    void oneInNAcrossCallerThreadsWithoutFirstEventBurst() {
+      LoggerThrottles sut = throttles("sample@com.acme", "1000");
+      AtomicInteger admitted = new AtomicInteger();
+
+      try (ExecutorService executor =
+          Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory())) {
+        for (int i = 0; i < 64; i++) {
+          executor.execute(() -> {
+            if (sut.tryAcquire("com.acme.Orders", Level.DEBUG)) {
+              admitted.incrementAndGet();
+            }
+          });
+        }
+      }
+
+      assertTrue(admitted.get() <= 1, "admitted " + admitted);
+    }
+
+    @Test
+    void firstNThenOneInM() {
+      LoggerThrottles sut = throttles("sample@com.acme", "5,10", "sample.interval.ms", "60000");
+
+      assertEquals(5 + 10, admitted(sut, "com.acme.Orders", Level.DEBUG, 5 + 100));
+    }
+
+    @Test
+    void sharedByDynamicallyNamedLoggersPastCacheBound() {
+      LoggerThrottles sut = throttles("sample@com.acme", "10");
+
+      long admitted = IntStream.range(0, 10_000)
+          .filter(i -> sut.tryAcquire("com.acme.Session" + i, Level.DEBUG))
+          .count();
+
+      assertEquals(1_000, admitted);
+    }
+
+    @Test
+    void sharedByLoggersUnderMostSpecificNameSpace() {
+      LoggerThrottles sut = throttles("sample", "2", "sample@com.acme", "4");
+
+      assertEquals(
+          2,
+          admitted(sut, "com.acme.Orders", Level.DEBUG, 4)
+              + admitted(sut, "com.acme.Payments", Level.DEBUG, 4));
+      assertEquals(2, admitted(sut, "org.other.Service", Level.DEBUG, 4));
+    }
+
+    @Test
+    void malformed() {
+      assertThrows(IllegalArgumentException.class, () -> throttles("sample@com.acme", "0"));
+      assertThrows(IllegalArgumentException.class, () -> throttles("sample@com.acme", "1,2,3"));
+      assertThrows(IllegalArgumentException.class, () -> throttles("sample@com.acme", "ten"));
+    }
+  }
+
+  @Nested
+  class rate {
+    @Test
+    void admitsUpToBurstThenThrottles() {
+      LoggerThrottles sut = throttles("rate@com.acme", "100");
+
+      long admitted = admitted(sut, "com.acme.Orders", Level.DEBUG, 1000);
+
+      assertTrue(admitted >= 100 && admitted < 200, "admitted " + admitted);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+      LoggerThrottles sut = throttles("rate@com.acme", "100");
+      admitted(sut, "com.acme.Orders", Level.DEBUG, 1000);
+
+      Thread.sleep(Duration.ofMillis(100));
+
+      assertTrue(admitted(sut, "com.acme.Orders", Level.DEBUG, 1000) >= 5);
+    }
+
+    @Test
+    void appliedAfterSampling() {
+      LoggerThrottles sut = throttles("sample@com.acme", "2", "rate@com.acme", "10");
+
+      long admitted = admitted(sut, "com.acme.Orders", Level.DEBUG, 40);
+
+      assertTrue(admitted >= 10 && admitted <= 20, "admitted " + admitted);
+    }
+
+    @Test
+    void malformed() {
+      assertThrows(IllegalArgumentException.class, () -> throttles("rate@com.acme", "-1"));
+      assertThrows(IllegalArgumentException.class, () -> throttles("rate", "fast"));
+    }
+  }
+
+  @Nested
+  class exemptLevel {
+    @Test
+    void warnAndAboveByDefault() {
+      LoggerThrottles sut = throttles("sample", "1000", "rate", "1");
+
+      assertEquals(10, admitted(sut, "com.acme.Orders", Level.WARN, 10));
+      assertEquals(10, admitted(sut, "com.acme.Orders", Level.ERROR, 10));
+      assertEquals(1, admitted(sut, "com.acme.Orders", Level.INFO, 10));
+    }
+
+    @Test
+    void configured() {
+      LoggerThrottles sut = throttles("sample", "1000", "throttle.exempt.level", "error");
+
+      assertEquals(1, admitted(sut, "com.acme.Orders", Level.WARN, 10));
+      assertEquals(10, admitted(sut, "com.acme.Orders", Level.ERROR, 10));
+    }
+  }
+}
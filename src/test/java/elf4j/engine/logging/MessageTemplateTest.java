@@ -0,0 +1,68 @@
+package elf4j.engine.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateTest {
+  @Nested
+  class of {
+    @Test
+    void sameFormatInstance_thenSameTemplate() {
+      String format = "cached {} template";
+
+      assertSame(MessageTemplate.of(format), MessageTemplate.of(format));
+    }
+  }
+
+  @Nested
+  class parse {
+    @Test
+    void countsPlaceholders() {
+      assertEquals(0, MessageTemplate.parse("").placeholderCount());
+      assertEquals(0, MessageTemplate.parse("no placeholder { } }{").placeholderCount());
+      assertEquals(3, MessageTemplate.parse("{}{} and {}").placeholderCount());
+      assertEquals(1, MessageTemplate.parse("{{}}").placeholderCount());
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+      assertEquals(20, MessageTemplate.parse("{}".repeat(20)).placeholderCount());
+    }
+  }
+
+  @Nested
+  class format {
+    @Test
+    void replacesPlaceholdersInOrder() {
+      assertEquals(
+          "1 and 2 then 3",
+          MessageTemplate.parse("{} and {} then {}")
+              .format(new Object[] {1, 2, 3}, UnaryOperator.identity()));
+    }
+
+    @Test
+    void whenFewerArguments_thenExcessPlaceholdersKept() {
+      assertEquals(
+          "a {} {}",
+          MessageTemplate.parse("{} {} {}").format(new Object[] {"a"}, UnaryOperator.identity()));
+    }
+
+    @Test
+    void whenMoreArguments_thenExcessArgumentsIgnored() {
+      assertEquals(
+          "{a} ",
+          MessageTemplate.parse("{{}} ").format(new Object[] {"a", "b"}, UnaryOperator.identity()));
+    }
+
+    @Test
+    void nullArgumentRendersAsNull() {
+      assertEquals(
+          "value=null",
+          MessageTemplate.parse("value={}").format(new Object[] {null}, UnaryOperator.identity()));
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package elf4j.engine.logging.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import elf4j.Level;
+import java.util.Properties;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LoggerThresholdLevelsTest {
+  @Nested
+  class getLoggerThresholdLevel {
+    @Test
+    void whenNothingConfigured_thenTrace() {
+      LoggerThresholdLevels sut =
+          LoggerThresholdLevels.from(ConfigurationProperties.bySetting(new Properties()));
+
+      assertEquals(Level.TRACE, sut.getLoggerThresholdLevel("com.foo.Bar"));
+    }
+
+    @Test
+    void whenNameSpaceConfigured_thenOverridesRoot() {
+      Properties properties = new Properties();
+      properties.setProperty("level", "info");
+      properties.setProperty("level@com.foo", "warn");
+      properties.setProperty("level@com.foo.bar", "error");
+      LoggerThresholdLevels sut =
+          LoggerThresholdLevels.from(ConfigurationProperties.bySetting(properties));
+
+      assertEquals(Level.ERROR, sut.getLoggerThresholdLevel("com.foo.bar.Baz"));
+      assertEquals(Level.WARN, sut.getLoggerThresholdLevel("com.foo.Baz"));
+      assertEquals(Level.INFO, sut.getLoggerThresholdLevel("com.foobar.Baz"));
+      assertEquals(Level.INFO, sut.getLoggerThresholdLevel("org.Baz"));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package elf4j.engine.logging.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class NameSpaceTrieTest {
+  @Nested
+  class getLongestMatch {
+    NameSpaceTrie<String> sut = NameSpaceTrie.from(Map.of(
+        "", "root",
+        "com.foo", "foo",
+        "com.foo.bar", "bar",
+        "com.foo.bar.Baz", "baz"));
+
+    @Test
+    void whenMultipleNameSpacesMatch_thenMostSpecificWins() {
+      assertEquals("baz", sut.getLongestMatch("com.foo.bar.Baz"));
+      assertEquals("bar", sut.getLongestMatch("com.foo.bar.Qux"));
+      assertEquals("foo", sut.getLongestMatch("com.foo.Qux"));
+      assertEquals("foo", sut.getLongestMatch("com.foo"));
+    }
+
+    @Test
+    void whenNameSharesOnlyCharacterPrefix_thenNoSegmentMatch() {
+      assertEquals("root", sut.getLongestMatch("com.foobar.Qux"));
+      assertEquals("foo", sut.getLongestMatch("com.foo.barbaz.Qux"));
+    }
+
+    @Test
+    void whenNestedClass_thenEnclosingClassMatches() {
+      assertEquals("baz", sut.getLongestMatch("com.foo.bar.Baz$Inner"));
+    }
+
+    @Test
+    void whenNoNameSpaceMatches_thenRootValue() {
+      assertEquals("root", sut.getLongestMatch("org.other.Qux"));
+      assertEquals("root", sut.getLongestMatch(""));
+    }
+
+    @Test
+    void whenManySiblingNameSpaces_thenEachMatchesItself() {
+      Map<String, Integer> siblings =
+          IntStream.range(0, 100).boxed().collect(Collectors.toMap(i -> "com.sibling" + i, i -> i));
+      NameSpaceTrie<Integer> many = NameSpaceTrie.from(siblings);
+
+      siblings.forEach(
+          (nameSpace, value) -> assertEquals(value, many.getLongestMatch(nameSpace + ".Qux")));
+      assertNull(many.getLongestMatch("com.sibling100.Qux"));
+    }
+
+    @Test
+    void whenNoRootConfigured_thenNull() {
+      NameSpaceTrie<String> noRoot = NameSpaceTrie.from(Map.of("com.foo", "foo"));
+
+      assertNull(noRoot.getLongestMatch("org.other.Qux"));
+      assertNull(noRoot.getLongestMatch("com"));
+    }
+  }
+
+  @Test
+  void equalsWhenBuiltFromEqualEntries() {
+    assertEquals(
+        NameSpaceTrie.from(Map.of("a.b", 1, "a", 2)), NameSpaceTrie.from(Map.of("a", 2, "a.b", 1)));
+    assertEquals(2, NameSpaceTrie.from(Map.of("a.b", 1, "a", 2)).size());
+  }
+}
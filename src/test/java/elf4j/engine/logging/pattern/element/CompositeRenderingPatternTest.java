@@ -1,8 +1,10 @@
 package elf4j.engine.logging.pattern.element;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
 
+import elf4j.Level;
 import elf4j.engine.logging.LogEvent;
 import elf4j.engine.logging.pattern.CompositeRenderingPattern;
 import elf4j.engine.logging.pattern.RenderingPattern;
@@ -59,5 +61,21 @@ class CompositeRenderingPatternTest {
       then(mockPattern2).should(inOrder).render(stubLogEvent, stringBuilder);
       then(mockPattern).should(inOrder).render(stubLogEvent, stringBuilder);
     }
+
+    @Test
+    void callerDetailRendersEmptyWhenNotCaptured() {
+      LogEvent logEvent = LogEvent.builder()
+          .loggerName("testLogger")
+          .level(Level.INFO)
+          .message("testMessage")
+          .callerThread(new LogEvent.CallerThreadValue("testThread", 1))
+          .build();
+      StringBuilder stringBuilder = new StringBuilder();
+
+      CompositeRenderingPattern.from("{class}#{method}(L{linenumber}@{filename}) - {message}")
+          .render(logEvent, stringBuilder);
+
+      assertEquals("#(L@) - testMessage", stringBuilder.toString());
+    }
   }
 }
@@ -36,6 +36,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.slf4j.MdcAdapterInitializer;
 
 @ExtendWith(MockitoExtension.class)
 class JsonPatternTest {
@@ -101,5 +103,27 @@ class JsonPatternTest {
       assertFalse(rendered.contains("testLogMessage {}"));
       assertTrue(rendered.contains(mockLogEvent.getResolvedMessage()));
     }
+
+    @Test
+    void contextFromEventSnapshot() {
+      MdcAdapterInitializer.initialize();
+      MDC.put("ctx-key", "ctx-value");
+      LogEvent logEvent;
+      try {
+        logEvent = LogEvent.builder()
+            .loggerName("testLogger")
+            .level(Level.INFO)
+            .message("testMessage")
+            .callerThread(new LogEvent.CallerThreadValue("testThread", 1))
+            .build();
+      } finally {
+        MDC.clear();
+      }
+      StringBuilder layout = new StringBuilder();
+
+      jsonPattern.render(logEvent, layout);
+
+      assertTrue(layout.toString().contains("\"context\":{\"ctx-key\":\"ctx-value\"}"));
+    }
   }
 }
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.pattern.element;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.pattern.CompositeRenderingPattern;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of rendering the timestamps of events logged a microsecond apart with the default pattern
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampPatternBenchmark {
+  static final int EVENT_COUNT = 1 << 14;
+
+  final CompositeRenderingPattern pattern = CompositeRenderingPattern.from("{timestamp}");
+  final StringBuilder target = new StringBuilder();
+  final LogEvent[] logEvents = new LogEvent[EVENT_COUNT];
+  int next;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(TimestampPatternBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Instant start = Instant.now();
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      logEvents[i] = new LogEvent(
+          start.plusNanos(i * 1_000L),
+          "benchmark",
+          Level.INFO,
+          null,
+          "message",
+          null,
+          new LogEvent.CallerThreadValue("main", 1L),
+          null);
+    }
+  }
+
+  @Benchmark
+  public int render() {
+    target.setLength(0);
+    pattern.render(logEvents[next++ & (EVENT_COUNT - 1)], target);
+    return target.length();
+  }
+}
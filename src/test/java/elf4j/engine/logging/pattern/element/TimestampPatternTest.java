@@ -73,7 +73,8 @@ class TimestampPatternTest {
   void renderFormatsLogEventTimestampCorrectlyWithDefaultTimeZone() {
     LogEvent logEvent = mock(LogEvent.class);
     var timestamp = Instant.now();
-    when(logEvent.timestamp()).thenReturn(timestamp);
+    when(logEvent.timestampNanos())
+        .thenReturn(timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano());
 
     TimestampPattern element = new TimestampPattern(
         DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSXXX"),
@@ -92,7 +93,8 @@ class TimestampPatternTest {
   void renderFormatsLogEventTimestampCorrectlyWithUTC() {
     LogEvent logEvent = mock(LogEvent.class);
     var timestamp = Instant.now();
-    when(logEvent.timestamp()).thenReturn(timestamp);
+    when(logEvent.timestampNanos())
+        .thenReturn(timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano());
 
     TimestampPattern element = new TimestampPattern(
         DateTimeFormatter.ofPattern("uuuu-MM-dd"), TimestampPattern.TimeZoneOption.UTC);
@@ -103,4 +105,37 @@ class TimestampPatternTest {
         timestamp.atZone(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("uuuu-MM-dd")),
         target.toString());
   }
+
+  @Test
+  void precisionDetectedFromPattern() {
+    assertEquals(
+        1_000_000_000L,
+        TimestampPattern.from("timestamp:uuuu-MM-dd HH:mm:ss")
+            .formattedTimestampCache()
+            .precisionNanos());
+    assertEquals(
+        1_000_000L, TimestampPattern.from("timestamp").formattedTimestampCache().precisionNanos());
+    assertEquals(
+        1L,
+        TimestampPattern.from("timestamp:HH:mm:ss.SSSSSS")
+            .formattedTimestampCache()
+            .precisionNanos());
+  }
+
+  @Test
+  void renderReusesFormattedTextWithinPrecision() {
+    LogEvent logEvent = mock(LogEvent.class);
+    long second = Instant.parse("2024-01-02T03:04:05Z").getEpochSecond() * 1_000_000_000L;
+    TimestampPattern element = TimestampPattern.from("timestamp:HH:mm:ss.SSS,UTC");
+    StringBuilder target = new StringBuilder();
+
+    when(logEvent.timestampNanos()).thenReturn(second + 1_000_001L);
+    element.render(logEvent, target.append('|'));
+    when(logEvent.timestampNanos()).thenReturn(second + 1_999_999L);
+    element.render(logEvent, target.append('|'));
+    when(logEvent.timestampNanos()).thenReturn(second + 2_000_000L);
+    element.render(logEvent, target.append('|'));
+
+    assertEquals("|03:04:05.001|03:04:05.001|03:04:05.002", target.toString());
+  }
 }
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.util;
+
+import elf4j.engine.logging.LogEvent;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of capturing the caller frame of a log service call against the depth of the call stack
+ * below the caller: walking the entire stack versus walking lazily until the caller is found.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackTracesBenchmark {
+  static final Set<String> LOG_SERVICE_CLASS_NAMES = Set.of(LogService.class.getName());
+
+  @Param({"10", "50", "200"})
+  int stackDepth;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(StackTracesBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  private static LogEvent.CallerFrameValue callAtDepth(int depth, boolean lazy) {
+    return depth == 0 ? LogService.log(lazy) : callAtDepth(depth - 1, lazy);
+  }
+
+  @Benchmark
+  public LogEvent.CallerFrameValue earliestCallerOfAny() {
+    return callAtDepth(stackDepth, false);
+  }
+
+  @Benchmark
+  public LogEvent.CallerFrameValue callerOf() {
+    return callAtDepth(stackDepth, true);
+  }
+
+  static class LogService {
+    static LogEvent.CallerFrameValue log(boolean lazy) {
+      return LogEvent.CallerFrameValue.from(
+          lazy
+              ? StackTraces.callerOf(LOG_SERVICE_CLASS_NAMES)
+              : StackTraces.earliestCallerOfAny(LOG_SERVICE_CLASS_NAMES));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package elf4j.engine.logging.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.NoSuchElementException;
@@ -20,4 +21,34 @@ class StackTracesTest {
 
     static class NotInCallstack {}
   }
+
+  @Nested
+  class callerOf {
+    @Test
+    void whenCalleeClassIsNotFoundInCallStack() {
+      assertThrows(
+          NoSuchElementException.class,
+          () -> StackTraces.callerOf(Set.of(NotInCallstack.class.getName())));
+    }
+
+    @Test
+    void frameBelowCalleeFrames() {
+      StackWalker.StackFrame caller = Callee.call();
+
+      assertEquals(this.getClass().getName(), caller.getClassName());
+      assertEquals("frameBelowCalleeFrames", caller.getMethodName());
+    }
+
+    static class NotInCallstack {}
+
+    static class Callee {
+      static StackWalker.StackFrame call() {
+        return callNested();
+      }
+
+      private static StackWalker.StackFrame callNested() {
+        return StackTraces.callerOf(Set.of(Callee.class.getName()));
+      }
+    }
+  }
 }
@@ -0,0 +1,56 @@
+package elf4j.engine.logging.writer;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLaneExecutorServiceTest {
+  AdaptiveLaneExecutorService sut;
+
+  @AfterEach
+  void stop() throws InterruptedException {
+    sut.shutdown();
+    assertTrue(sut.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void startsWithMinLanes() {
+    sut = AdaptiveLaneExecutorService.start(2, 8, Duration.ofMillis(10));
+
+    assertEquals(2, sut.laneCount());
+  }
+
+  @Test
+  void growsWithinMaxUnderBacklogThenShrinksToMinWhenIdle() throws InterruptedException {
+    sut = AdaptiveLaneExecutorService.start(1, 4, Duration.ofMillis(10));
+    int tasks = 100;
+    CountDownLatch done = new CountDownLatch(tasks);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    for (int i = 0; i < tasks; i++) {
+      sut.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+
+    await().atMost(Duration.ofSeconds(5)).until(() -> sut.laneCount() == 4);
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertTrue(maxRunning.get() <= 4);
+    await().atMost(Duration.ofSeconds(5)).until(() -> sut.laneCount() == 1);
+  }
+}
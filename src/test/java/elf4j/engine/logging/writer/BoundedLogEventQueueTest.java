@@ -0,0 +1,321 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowCounts;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OverflowPolicy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BoundedLogEventQueueTest {
+  static final int CAPACITY = 2;
+
+  final CountDownLatch stalledEventTaken = new CountDownLatch(1);
+  final CountDownLatch stallReleased = new CountDownLatch(1);
+  final List<String> consumed = new CopyOnWriteArrayList<>();
+  final List<String> consumingThreads = new CopyOnWriteArrayList<>();
+  final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+  BoundedLogEventQueue sut;
+
+  static LogEvent logEvent(String message, Level level) {
+    return LogEvent.builder()
+        .loggerName("testLogger")
+        .level(level)
+        .message(message)
+        .callerThread(new LogEvent.CallerThreadValue("testThread", 1))
+        .build();
+  }
+
+  @AfterEach
+  void stop() {
+    stallReleased.countDown();
+    sut.stop(Duration.ofSeconds(5));
+  }
+
+  /** Starts the queue with its worker stalled on a first event */
+  void startStalled(OverflowPolicy overflowPolicy, int capacity, int batchSize, Duration linger)
+      throws InterruptedException {
+    startStalled(overflowPolicy, null, capacity, batchSize, linger);
+  }
+
+  /** Starts the queue with its worker stalled on a first event */
+  void startStalled(
+      OverflowPolicy overflowPolicy,
+      @Nullable Level priorityLevel,
+      int capacity,
+      int batchSize,
+      Duration linger)
+      throws InterruptedException {
+    sut = BoundedLogEventQueue.start(
+        "testQueue",
+        capacity,
+        overflowPolicy,
+        Level.WARN,
+        priorityLevel,
+        batchSize,
+        linger,
+        Thread.ofPlatform().daemon(true),
+        batch -> {
+          batchSizes.add(batch.size());
+          for (LogEvent logEvent : batch) {
+            if (logEvent.message().equals("stalled")) {
+              stalledEventTaken.countDown();
+              try {
+                stallReleased.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+            consumed.add((String) logEvent.message());
+            consumingThreads.add(Thread.currentThread().getName());
+          }
+        });
+    sut.offer(logEvent("stalled", Level.INFO));
+    assertTrue(stalledEventTaken.await(5, TimeUnit.SECONDS));
+  }
+
+  /** Starts the queue with its worker stalled on a first event, and then fills the queue up */
+  void startFull(OverflowPolicy overflowPolicy) throws InterruptedException {
+    startStalled(overflowPolicy, CAPACITY, 1, Duration.ZERO);
+    sut.offer(logEvent("queued1", Level.INFO));
+    sut.offer(logEvent("queued2", Level.INFO));
+  }
+
+  void releaseAndDrain() {
+    stallReleased.countDown();
+    assertTrue(sut.stop(Duration.ofSeconds(5)));
+  }
+
+  @Nested
+  class offer {
+    @Test
+    void dropNewest() throws InterruptedException {
+      startFull(OverflowPolicy.DROP_NEWEST);
+
+      sut.offer(logEvent("overflow", Level.ERROR));
+
+      releaseAndDrain();
+      assertEquals(List.of("stalled", "queued1", "queued2"), consumed);
+      assertEquals(new OverflowCounts(1, 0, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void dropOldest() throws InterruptedException {
+      startFull(OverflowPolicy.DROP_OLDEST);
+
+      sut.offer(logEvent("overflow", Level.INFO));
+
+      releaseAndDrain();
+      assertEquals(List.of("stalled", "queued2", "overflow"), consumed);
+      assertEquals(new OverflowCounts(1, 0, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void dropBelowLevelKeepsWarn() throws InterruptedException {
+      startFull(OverflowPolicy.DROP_BELOW_LEVEL);
+      sut.offer(logEvent("overflowInfo", Level.INFO));
+      Thread warnCaller =
+          Thread.ofPlatform().start(() -> sut.offer(logEvent("overflowWarn", Level.WARN)));
+
+      warnCaller.join(200);
+      assertTrue(warnCaller.isAlive());
+      stallReleased.countDown();
+      warnCaller.join(5000);
+
+      releaseAndDrain();
+      assertEquals(List.of("stalled", "queued1", "queued2", "overflowWarn"), consumed);
+      assertEquals(new OverflowCounts(1, 1, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void block() throws InterruptedException {
+      startFull(OverflowPolicy.BLOCK);
+      Thread caller = Thread.ofPlatform().start(() -> sut.offer(logEvent("overflow", Level.INFO)));
+
+      caller.join(200);
+      assertTrue(caller.isAlive());
+      stallReleased.countDown();
+      caller.join(5000);
+
+      releaseAndDrain();
+      assertEquals(List.of("stalled", "queued1", "queued2", "overflow"), consumed);
+      assertEquals(new OverflowCounts(0, 1, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void sync() throws InterruptedException {
+      startFull(OverflowPolicy.SYNC);
+
+      sut.offer(logEvent("overflow", Level.INFO));
+
+      assertEquals(List.of("overflow"), consumed);
+      assertEquals(Thread.currentThread().getName(), consumingThreads.getFirst());
+      releaseAndDrain();
+      assertEquals(List.of("overflow", "stalled", "queued1", "queued2"), consumed);
+      assertEquals(new OverflowCounts(0, 0, 1), sut.overflowCounts());
+    }
+
+    @Test
+    void discardedAfterStop() throws InterruptedException {
+      startFull(OverflowPolicy.BLOCK);
+      releaseAndDrain();
+
+      sut.offer(logEvent("afterStop", Level.INFO));
+
+      assertEquals(List.of("stalled", "queued1", "queued2"), consumed);
+    }
+  }
+
+  @Nested
+  class drain {
+    @Test
+    void inBatchesOfUpToBatchSize() throws InterruptedException {
+      startStalled(OverflowPolicy.BLOCK, 8, 3, Duration.ZERO);
+      for (int i = 0; i < 5; i++) {
+        sut.offer(logEvent("queued" + i, Level.INFO));
+      }
+
+      releaseAndDrain();
+
+      assertEquals(List.of(1, 3, 2), batchSizes);
+      assertEquals(
+          List.of("stalled", "queued0", "queued1", "queued2", "queued3", "queued4"), consumed);
+    }
+
+    @Test
+    void priorityLaneFirstAndPastFullLowerLevelLane() throws InterruptedException {
+      startStalled(OverflowPolicy.DROP_NEWEST, Level.WARN, CAPACITY, 8, Duration.ZERO);
+      sut.offer(logEvent("info1", Level.INFO));
+      sut.offer(logEvent("info2", Level.INFO));
+      sut.offer(logEvent("info3", Level.INFO));
+      sut.offer(logEvent("warn1", Level.WARN));
+      sut.offer(logEvent("error1", Level.ERROR));
+
+      releaseAndDrain();
+
+      assertEquals(List.of("stalled", "warn1", "error1", "info1", "info2"), consumed);
+      assertEquals(new OverflowCounts(1, 0, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void keepsDrainingPastErrorOfBatchConsumer() {
+      sut = BoundedLogEventQueue.start(
+          "testQueue",
+          1,
+          OverflowPolicy.BLOCK,
+          Level.WARN,
+          null,
+          1,
+          Duration.ZERO,
+          Thread.ofPlatform().daemon(true),
+          batch -> {
+            consumed.add((String) batch.getFirst().message());
+            throw new StackOverflowError("rendering a log argument");
+          });
+
+      assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+        for (int i = 0; i < 20; i++) {
+          sut.offer(logEvent("event" + i, Level.INFO));
+        }
+      });
+
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+      assertEquals(IntStream.range(0, 20).mapToObj(i -> "event" + i).toList(), consumed);
+      assertEquals(0, sut.overflowCounts().dropped());
+    }
+
+    @Test
+    void dropsEventsOfWorkerOfferedIntoItsOwnFullQueue() throws InterruptedException {
+      sut = BoundedLogEventQueue.start(
+          "testQueue",
+          1,
+          OverflowPolicy.BLOCK,
+          Level.WARN,
+          null,
+          1,
+          Duration.ZERO,
+          Thread.ofPlatform().daemon(true),
+          batch -> {
+            for (LogEvent logEvent : batch) {
+              consumed.add((String) logEvent.message());
+              if (logEvent.message().equals("first")) {
+                sut.offer(logEvent("logged by writer 1", Level.INFO));
+                sut.offer(logEvent("logged by writer 2", Level.INFO));
+                stalledEventTaken.countDown();
+              }
+            }
+          });
+
+      sut.offer(logEvent("first", Level.INFO));
+
+      assertTrue(stalledEventTaken.await(5, TimeUnit.SECONDS));
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+      assertEquals(List.of("first", "logged by writer 1"), consumed);
+      assertEquals(new OverflowCounts(1, 0, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void countsEventOfBlockedCallerAsDroppedOnStop() throws InterruptedException {
+      startFull(OverflowPolicy.BLOCK);
+      Thread blockedCaller =
+          Thread.ofPlatform().start(() -> sut.offer(logEvent("blocked", Level.INFO)));
+      while (blockedCaller.getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+
+      assertFalse(sut.stop(Duration.ofMillis(50)));
+      blockedCaller.join(5000);
+
+      assertFalse(blockedCaller.isAlive());
+      assertEquals(new OverflowCounts(1, 1, 0), sut.overflowCounts());
+    }
+
+    @Test
+    void abandonsQueuedEventsPastStopTimeout() throws InterruptedException {
+      startFull(OverflowPolicy.BLOCK);
+
+      assertEquals(2, sut.pendingCount());
+      assertFalse(sut.stop(Duration.ofMillis(50)));
+      assertEquals(2, sut.abandon());
+
+      stallReleased.countDown();
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+      assertEquals(List.of("stalled"), consumed);
+    }
+
+    @Test
+    void lingerForFullBatch() throws InterruptedException {
+      sut = BoundedLogEventQueue.start(
+          "testQueue",
+          8,
+          OverflowPolicy.BLOCK,
+          Level.WARN,
+          null,
+          4,
+          Duration.ofSeconds(5),
+          Thread.ofVirtual(),
+          batch -> batchSizes.add(batch.size()));
+
+      for (int i = 0; i < 4; i++) {
+        sut.offer(logEvent("queued" + i, Level.INFO));
+        Thread.sleep(20);
+      }
+
+      assertTrue(sut.stop(Duration.ofSeconds(5)));
+      assertEquals(List.of(4), batchSizes);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+/**
+ * Cost, and allocation with the GC profiler, of enabled log calls handed over to writers that
+ * discard the events, per mode of the composite writer and number of writers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeLogEventWriterBenchmark {
+  @Param({"async", "fanout", "bounded", "isolated", "ring"})
+  String mode;
+
+  @Param({"1", "3"})
+  int writers;
+
+  @Param({"precise", "cached"})
+  String clock;
+
+  Logger logger;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(CompositeLogEventWriterBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    logger = Logger.instance();
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.MODE, mode);
+    properties.setProperty(ConfigurationProperties.CLOCK, clock);
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES,
+        String.join(
+            ",", Collections.nCopies(writers, DiscardingLogEventWriterFactory.class.getName())));
+    NativeLogServiceManager.INSTANCE.restart(properties);
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void logString() {
+    logger.log("order shipped");
+  }
+
+  @Benchmark
+  public void logPrimitiveAndString() {
+    logger.log("order {} shipped to {}", 42, "customer");
+  }
+
+  @Benchmark
+  public void logStringInContext(MdcContext mdcContext) {
+    logger.log("order shipped");
+  }
+
+  /** MDC context set up on, and thus in effect for, each benchmark thread */
+  @State(Scope.Thread)
+  public static class MdcContext {
+    @Setup
+    public void setup() {
+      MDC.put("requestId", "7c5e6f0a");
+      MDC.put("customerId", "CUST-7890");
+    }
+
+    @TearDown
+    public void tearDown() {
+      MDC.clear();
+    }
+  }
+
+  public static class DiscardingLogEventWriterFactory implements LogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {}
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,780 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager.DrainCounts;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.pattern.CompositeRenderingPattern;
+import elf4j.engine.logging.pattern.RenderingPattern;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.MDC;
+import org.slf4j.MdcAdapterInitializer;
+
+class CompositeLogEventWriterTest {
+  CompositeLogEventWriter sut;
+
+  @AfterEach
+  void stop() {
+    sut.stop();
+  }
+
+  @Nested
+  class requiresCallerDetail {
+    @Test
+    void whenPatternHasNoCallerDetail_thenNoLevel() {
+      Properties properties = new Properties();
+      properties.setProperty("pattern", "{level} {logger} - {message}");
+
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertFalse(sut.requiresCallerDetail());
+      assertFalse(sut.requiresCallerDetail(Level.ERROR));
+    }
+
+    @Test
+    void whenCallerDetailLevelNotConfigured_thenAllLevels() {
+      Properties properties = new Properties();
+      properties.setProperty("pattern", "{method} - {message}");
+
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertTrue(sut.requiresCallerDetail());
+      assertTrue(sut.requiresCallerDetail(Level.TRACE));
+      assertTrue(sut.requiresCallerDetail(Level.ERROR));
+    }
+
+    @Test
+    void whenGlobalCallerDetailLevelConfigured_thenOnlyFromThatLevel() {
+      Properties properties = new Properties();
+      properties.setProperty("pattern", "{method} - {message}");
+      properties.setProperty("caller.detail.level", "warn");
+
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertFalse(sut.requiresCallerDetail(Level.INFO));
+      assertTrue(sut.requiresCallerDetail(Level.WARN));
+      assertTrue(sut.requiresCallerDetail(Level.ERROR));
+    }
+
+    @Test
+    void whenWriterCallerDetailLevelConfigured_thenOverridesGlobal() {
+      Properties properties = new Properties();
+      properties.setProperty("pattern", "{method} - {message}");
+      properties.setProperty("caller.detail.level", "error");
+      properties.setProperty(
+          "caller.detail.level@" + StandardStreamLogEventWriterFactory.class.getName(), "info");
+
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertFalse(sut.requiresCallerDetail(Level.DEBUG));
+      assertTrue(sut.requiresCallerDetail(Level.INFO));
+    }
+  }
+
+  @Nested
+  class write {
+    Properties properties;
+
+    @BeforeEach
+    void setUp() {
+      MdcAdapterInitializer.initialize();
+      RecordingLogEventWriterFactory.WRITTEN.clear();
+      properties = new Properties();
+      properties.setProperty("writer.factories", RecordingLogEventWriterFactory.class.getName());
+    }
+
+    @AfterEach
+    void clearContext() {
+      MDC.clear();
+    }
+
+    @Test
+    void asyncMode() throws InterruptedException {
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      sut.write("testLogger", Level.INFO, null, "message {}", new Object[] {1}, null);
+
+      assertEquals(
+          "%s|%s|testLogger|INFO|message 1|null"
+              .formatted(
+                  Thread.currentThread().getName(), Thread.currentThread().threadId()),
+          RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void asyncModeWithAdaptiveConcurrencyWritesInOrder() throws InterruptedException {
+      properties.setProperty("concurrency.min", "1");
+      properties.setProperty("concurrency.max", "4");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+      int total = 10;
+
+      assertEquals(1, sut.getLaneCount());
+      IntStream.range(0, total)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+
+      for (int i = 0; i < total; i++) {
+        assertEquals(
+            "%s|%s|testLogger|INFO|%s|value"
+                .formatted(
+                    Thread.currentThread().getName(), Thread.currentThread().threadId(), i),
+            RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+      assertTrue(sut.getLaneCount() <= 4);
+    }
+
+    @Test
+    void asyncModeWritesPriorityLaneAheadOfBacklog() throws InterruptedException {
+      properties.setProperty("writer.factories", GatedLogEventWriterFactory.class.getName());
+      properties.setProperty("priority.level", "warn");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      String caller = "%s|%s|testLogger"
+          .formatted(Thread.currentThread().getName(), Thread.currentThread().threadId());
+
+      try {
+        sut.write("testLogger", Level.INFO, null, "info {}", new Object[] {1}, null);
+        sut.write("testLogger", Level.INFO, null, "info {}", new Object[] {2}, null);
+        sut.write("testLogger", Level.ERROR, null, "error {}", new Object[] {3}, null);
+
+        assertEquals(
+            caller + "|ERROR|error 3|null",
+            RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      } finally {
+        GatedLogEventWriterFactory.GATE.countDown();
+      }
+      assertEquals(
+          caller + "|INFO|info 1|null",
+          RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      assertEquals(
+          caller + "|INFO|info 2|null",
+          RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void asyncModeDrainsChainedWritesOnStop() {
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      int total = 100;
+
+      IntStream.range(0, total)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+      DrainCounts drainCounts = sut.stop(Duration.ofSeconds(5));
+
+      assertEquals(0, drainCounts.abandoned());
+      assertEquals(total, RecordingLogEventWriterFactory.WRITTEN.size());
+    }
+
+    @Test
+    void asyncModeAbandonsPendingWritesPastStopTimeout() {
+      properties.setProperty("writer.factories", SlowLogEventWriterFactory.class.getName());
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      IntStream.range(0, 3)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+      DrainCounts drainCounts = sut.stop(Duration.ofMillis(50));
+
+      assertEquals(new DrainCounts(0, 3), drainCounts);
+      assertEquals(new DrainCounts(0, 0), sut.stop(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void asyncModeStopsPromptlyWhileCallerKeepsLogging() throws InterruptedException {
+      properties.setProperty("writer.factories", PacedLogEventWriterFactory.class.getName());
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      CountDownLatch logging = new CountDownLatch(1);
+      Thread caller = Thread.ofPlatform().start(() -> {
+        try {
+          while (!Thread.currentThread().isInterrupted()) {
+            sut.write("testLogger", Level.INFO, null, "message", null, null);
+            logging.countDown();
+          }
+        } catch (RejectedExecutionException stopped) {
+          // rejected once the stop has shut down the executors
+        }
+      });
+      assertTrue(logging.await(5, TimeUnit.SECONDS));
+
+      long startNanos = System.nanoTime();
+      DrainCounts drainCounts = sut.stop(Duration.ofSeconds(30));
+      Duration stopped = Duration.ofNanos(System.nanoTime() - startNanos);
+      caller.interrupt();
+      caller.join();
+
+      assertTrue(stopped.compareTo(Duration.ofSeconds(10)) < 0, stopped::toString);
+      assertTrue(drainCounts.drained() > 0);
+      assertTrue(sut.getOverflowCounts().dropped() > 0);
+    }
+
+    @Test
+    void syncModeSuppressesRepeatsThenWritesSummaryOnStop() {
+      properties.setProperty("mode", "sync");
+      properties.setProperty("suppress.window.ms", "60000");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      String caller = "%s|%s|testLogger"
+          .formatted(Thread.currentThread().getName(), Thread.currentThread().threadId());
+
+      IntStream.range(0, 5)
+          .forEach(i ->
+              sut.write("testLogger", Level.ERROR, null, "timeout {}", new Object[] {i}, null));
+      sut.stop();
+
+      assertEquals(
+          List.of(
+              caller + "|ERROR|timeout 0|null",
+              caller + "|ERROR|Suppressed 4 repeat(s) within 60000 ms of: timeout {}|null"),
+          List.copyOf(RecordingLogEventWriterFactory.WRITTEN));
+    }
+
+    @Test
+    void syncModeWritesRecordedEventsAheadOfError() {
+      properties.setProperty("mode", "sync");
+      properties.setProperty("recorder.size", "2");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      String caller = "%s|%s|testLogger"
+          .formatted(Thread.currentThread().getName(), Thread.currentThread().threadId());
+
+      sut.record("testLogger", Level.DEBUG, null, "debug {}", new Object[] {1});
+      sut.record("testLogger", Level.DEBUG, null, "debug {}", new Object[] {2});
+      sut.record("testLogger", Level.TRACE, null, "trace {}", new Object[] {3});
+      assertTrue(RecordingLogEventWriterFactory.WRITTEN.isEmpty());
+      sut.write("testLogger", Level.ERROR, null, "error", null, null);
+      sut.write("testLogger", Level.ERROR, null, "error again", null, null);
+
+      assertEquals(
+          List.of(
+              caller + "|DEBUG|debug 2|null",
+              caller + "|TRACE|trace 3|null",
+              caller + "|ERROR|error|null",
+              caller + "|ERROR|error again|null"),
+          List.copyOf(RecordingLogEventWriterFactory.WRITTEN));
+      assertEquals(
+          new CompositeLogEventWriter.FlightRecorderCounts(0, 2 * 1024, 2, 1, 0),
+          sut.getFlightRecorderCounts());
+    }
+
+    @Test
+    void syncModeFlushesRecordedEventsOnDemand() throws InterruptedException {
+      properties.setProperty("mode", "sync");
+      properties.setProperty("recorder.size", "8");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      sut.record("testLogger", Level.DEBUG, null, "main", null);
+      Thread other = Thread.ofPlatform()
+          .name("other")
+          .start(() -> sut.record("testLogger", Level.DEBUG, null, "other", null));
+      other.join();
+      assertEquals(2, sut.getFlightRecorderCounts().buffered());
+      sut.flushFlightRecorder();
+
+      assertEquals(
+          List.of(
+              "%s|%s|testLogger|DEBUG|main|null"
+                  .formatted(
+                      Thread.currentThread().getName(), Thread.currentThread().threadId()),
+              "other|%s|testLogger|DEBUG|other|null".formatted(other.threadId())),
+          List.copyOf(RecordingLogEventWriterFactory.WRITTEN));
+      assertEquals(0, sut.getFlightRecorderCounts().buffered());
+    }
+
+    @Test
+    void fanoutModeWritesToAllWritersWithCallerContext() throws InterruptedException {
+      properties.setProperty("mode", "fanout");
+      properties.setProperty(
+          "writer.factories",
+          RecordingLogEventWriterFactory.class.getName() + ","
+              + RecordingLogEventWriterFactory.class.getName());
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+      int total = 10;
+
+      IntStream.range(0, total)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+
+      for (int i = 0; i < total; i++) {
+        String expected = "%s|%s|testLogger|INFO|%s|value"
+            .formatted(Thread.currentThread().getName(), Thread.currentThread().threadId(), i);
+        assertEquals(expected, RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+        assertEquals(expected, RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+    }
+
+    @Test
+    void boundedModeWritesInOrderPerCallerThread() throws InterruptedException {
+      properties.setProperty("mode", "bounded");
+      properties.setProperty("concurrency", "4");
+      properties.setProperty("queue.capacity", "64");
+      properties.setProperty("queue.overflow", "drop-newest");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+      int total = 5;
+
+      IntStream.range(0, total)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+
+      for (int i = 0; i < total; i++) {
+        assertEquals(
+            "%s|%s|testLogger|INFO|%s|value"
+                .formatted(
+                    Thread.currentThread().getName(), Thread.currentThread().threadId(), i),
+            RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+      assertEquals(new CompositeLogEventWriter.OverflowCounts(0, 0, 0), sut.getOverflowCounts());
+    }
+
+    @Test
+    void boundedModeOnVirtualWorkerThreads() throws InterruptedException {
+      properties.setProperty("mode", "bounded");
+      properties.setProperty("concurrency", "4");
+      properties.setProperty("queue.threads", "virtual");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      int total = 5;
+
+      Thread caller = Thread.ofVirtual().name("virtualCaller").start(() -> {
+        MDC.put("ctx", "value");
+        IntStream.range(0, total)
+            .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+      });
+      caller.join();
+
+      for (int i = 0; i < total; i++) {
+        assertEquals(
+            "virtualCaller|%s|testLogger|INFO|%s|value".formatted(caller.threadId(), i),
+            RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+    }
+
+    @Test
+    void isolatedModeKeepsWritingPastStalledWriter() throws InterruptedException {
+      String stallingWriterFactory = StallingLogEventWriterFactory.class.getName();
+      properties.setProperty("mode", "isolated");
+      properties.setProperty(
+          "writer.factories",
+          stallingWriterFactory + "," + RecordingLogEventWriterFactory.class.getName());
+      properties.setProperty("queue.capacity@" + stallingWriterFactory, "2");
+      properties.setProperty("queue.overflow@" + stallingWriterFactory, "drop-newest");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+      int total = 10;
+
+      try {
+        IntStream.range(0, total)
+            .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+
+        for (int i = 0; i < total; i++) {
+          assertEquals(
+              "%s|%s|testLogger|INFO|%s|value"
+                  .formatted(
+                      Thread.currentThread().getName(), Thread.currentThread().threadId(), i),
+              RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+        }
+        assertTrue(sut.getOverflowCounts().dropped() > 0);
+      } finally {
+        StallingLogEventWriterFactory.STALL.countDown();
+      }
+    }
+
+    @Test
+    void asyncModeOrderedByLoggerAcrossCallerThreads() throws InterruptedException {
+      properties.setProperty("order.key", "logger");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertWrittenInOrderAcrossCallerThreads();
+    }
+
+    @Test
+    void boundedModeOrderedByContextAcrossCallerThreads() throws InterruptedException {
+      properties.setProperty("mode", "bounded");
+      properties.setProperty("concurrency", "4");
+      properties.setProperty("order.key", "context");
+      properties.setProperty("order.key.context", "ctx");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+
+      assertWrittenInOrderAcrossCallerThreads();
+    }
+
+    private void assertWrittenInOrderAcrossCallerThreads() throws InterruptedException {
+      int perThread = 5;
+      int threads = 4;
+      for (int t = 0; t < threads; t++) {
+        int first = t * perThread;
+        Thread caller = new Thread(() -> {
+          MDC.put("ctx", "value");
+          IntStream.range(first, first + perThread)
+              .forEach(
+                  i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+        });
+        caller.start();
+        caller.join();
+      }
+
+      for (int i = 0; i < perThread * threads; i++) {
+        String written = RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS);
+        assertEquals("testLogger|INFO|%s|value".formatted(i), written.split("\\|", 3)[2]);
+      }
+    }
+
+    @Test
+    void syncModeWritesOnCallerThreadPastFailingWriter() {
+      properties.setProperty("mode", "sync");
+      properties.setProperty(
+          "writer.factories",
+          FailingLogEventWriterFactory.class.getName() + ","
+              + RecordingLogEventWriterFactory.class.getName());
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+
+      sut.write("testLogger", Level.INFO, null, "message {}", new Object[] {1}, null);
+
+      assertEquals(
+          "%s|%s|testLogger|INFO|message 1|value"
+              .formatted(
+                  Thread.currentThread().getName(), Thread.currentThread().threadId()),
+          RecordingLogEventWriterFactory.WRITTEN.poll());
+    }
+
+    @Test
+    void ringMode() throws InterruptedException {
+      properties.setProperty("mode", "ring");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      MDC.put("ctx", "value");
+
+      sut.write("testLogger", Level.INFO, null, "message {}", new Object[] {1}, null);
+
+      assertEquals(
+          "%s|%s|testLogger|INFO|message 1|value"
+              .formatted(
+                  Thread.currentThread().getName(), Thread.currentThread().threadId()),
+          RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sync", "ring"})
+    void withholdsCallerFrameFromWriterBelowItsOwnCallerDetailLevel(String mode)
+        throws InterruptedException {
+      MethodLogEventWriterFactory.WRITTEN.clear();
+      properties.setProperty("mode", mode);
+      properties.setProperty(
+          "writer.factories",
+          MethodLogEventWriterFactory.class.getName() + ","
+              + ErrorMethodLogEventWriterFactory.class.getName());
+      properties.setProperty("caller.detail.level", "info");
+      properties.setProperty(
+          "caller.detail.level@" + ErrorMethodLogEventWriterFactory.class.getName(), "error");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      LogEvent.CallerFrameValue callerFrame =
+          new LogEvent.CallerFrameValue("TestClass", "callerMethod", 1, "TestClass.java");
+
+      assertFalse(sut.requiresCallerDetail(Level.DEBUG));
+      assertTrue(sut.requiresCallerDetail(Level.INFO));
+      sut.write("testLogger", Level.INFO, null, "info", null, callerFrame);
+      sut.write("testLogger", Level.ERROR, null, "error", null, callerFrame);
+
+      assertEquals(
+          Set.of(
+              "callerMethod - info",
+              "error: - info",
+              "callerMethod - error",
+              "error:callerMethod - error"),
+          IntStream.range(0, 4)
+              .mapToObj(i -> assertDoesNotThrow(
+                  () -> MethodLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS)))
+              .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void ringModeWritesRecordedEventsWithContextOfTheirLogCalls() throws InterruptedException {
+      properties.setProperty("mode", "ring");
+      properties.setProperty("recorder.size", "8");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      String caller = "%s|%s|testLogger"
+          .formatted(Thread.currentThread().getName(), Thread.currentThread().threadId());
+      MDC.put("ctx", "recorded");
+      sut.record("testLogger", Level.DEBUG, null, "flushed on demand", null);
+      MDC.put("ctx", "flusher");
+
+      Thread flusher = Thread.ofPlatform().name("flusher").start(() -> {
+        MDC.put("ctx", "flusher");
+        sut.flushFlightRecorder();
+      });
+      flusher.join();
+      MDC.put("ctx", "recorded");
+      sut.record("testLogger", Level.DEBUG, null, "flushed ahead of error", null);
+      MDC.put("ctx", "error");
+      sut.write("testLogger", Level.ERROR, null, "error", null, null);
+
+      for (String e : List.of(
+          caller + "|DEBUG|flushed on demand|recorded",
+          caller + "|DEBUG|flushed ahead of error|recorded",
+          caller + "|ERROR|error|error")) {
+        assertEquals(e, RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+    }
+
+    @Test
+    void ringModeCountsEventsBehindDroppedCallerAsAbandonedOnStop() throws InterruptedException {
+      HeldLogEventWriterFactory.release = new CountDownLatch(1);
+      properties.setProperty("writer.factories", HeldLogEventWriterFactory.class.getName());
+      properties.setProperty("mode", "ring");
+      properties.setProperty("ring.size", "2");
+      properties.setProperty("batch.size", "1");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      IntStream.range(0, 2)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+      Thread blockedCaller = Thread.ofPlatform()
+          .start(() -> sut.write("testLogger", Level.INFO, null, "dropped", null, null));
+      while (blockedCaller.getState() != Thread.State.TIMED_WAITING) {
+        Thread.onSpinWait();
+      }
+
+      DrainCounts[] drainCounts = new DrainCounts[1];
+      Thread stopper =
+          Thread.ofPlatform().start(() -> drainCounts[0] = sut.stop(Duration.ofSeconds(5)));
+      blockedCaller.join();
+      HeldLogEventWriterFactory.release.countDown();
+      stopper.join();
+
+      assertEquals(new DrainCounts(2, 1), drainCounts[0]);
+      assertEquals(2, RecordingLogEventWriterFactory.WRITTEN.size());
+      assertEquals(1, sut.getOverflowCounts().dropped());
+    }
+
+    @Test
+    void ringModeReusesSlotsInOrder() throws InterruptedException {
+      properties.setProperty("mode", "ring");
+      properties.setProperty("ring.size", "4");
+      sut = CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+      int total = 100;
+
+      IntStream.range(0, total)
+          .forEach(i -> sut.write("testLogger", Level.INFO, null, "{}", new Object[] {i}, null));
+
+      List<String> expected = IntStream.range(0, total)
+          .mapToObj(i -> "%s|%s|testLogger|INFO|%s|null"
+              .formatted(
+                  Thread.currentThread().getName(), Thread.currentThread().threadId(), i))
+          .toList();
+      for (String e : expected) {
+        assertEquals(e, RecordingLogEventWriterFactory.WRITTEN.poll(5, TimeUnit.SECONDS));
+      }
+    }
+  }
+
+  /** Holds each event until released, and then records it */
+  public static class HeldLogEventWriterFactory implements LogEventWriterFactory {
+    static volatile CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      LogEventWriter recordingWriter = new RecordingLogEventWriterFactory().getWriter(properties);
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          recordingWriter.write(logEvent);
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  public static class StallingLogEventWriterFactory implements LogEventWriterFactory {
+    static final CountDownLatch STALL = new CountDownLatch(1);
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          try {
+            STALL.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  /** Takes a millisecond per event, longer than a caller takes to log one in a loop */
+  public static class PacedLogEventWriterFactory implements LogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          try {
+            Thread.sleep(Duration.ofMillis(1));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  /** Takes far longer per event than the stop timeouts under test, unless interrupted */
+  public static class SlowLogEventWriterFactory implements LogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          try {
+            Thread.sleep(Duration.ofSeconds(5));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  /** Records the events, holding those below WARN until the gate opens */
+  public static class GatedLogEventWriterFactory implements LogEventWriterFactory {
+    static final CountDownLatch GATE = new CountDownLatch(1);
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      LogEventWriter recordingWriter = new RecordingLogEventWriterFactory().getWriter(properties);
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          if (logEvent.level().compareTo(Level.WARN) < 0) {
+            try {
+              GATE.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          recordingWriter.write(logEvent);
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  public static class FailingLogEventWriterFactory implements LogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          throw new IllegalStateException("Failing writer");
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+
+  public static class MethodLogEventWriterFactory implements LogEventWriterFactory {
+    static final BlockingQueue<String> WRITTEN = new LinkedBlockingQueue<>();
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return getWriter("");
+    }
+
+    LogEventWriter getWriter(String prefix) {
+      RenderingPattern logPattern = CompositeRenderingPattern.from(prefix + "{method} - {message}");
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          StringBuilder target = new StringBuilder();
+          logPattern.render(logEvent, target);
+          WRITTEN.add(target.toString());
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return logPattern.requiresCallerDetail();
+        }
+      };
+    }
+  }
+
+  public static class ErrorMethodLogEventWriterFactory extends MethodLogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return getWriter("error:");
+    }
+  }
+
+  public static class RecordingLogEventWriterFactory implements LogEventWriterFactory {
+    static final BlockingQueue<String> WRITTEN = new LinkedBlockingQueue<>();
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          @Nullable String context = logEvent.context().get("ctx");
+          WRITTEN.add("%s|%s|%s|%s|%s|%s"
+              .formatted(
+                  logEvent.callerThread().name(),
+                  logEvent.callerThread().id(),
+                  logEvent.loggerName(),
+                  logEvent.level(),
+                  logEvent.getResolvedMessage(),
+                  context));
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
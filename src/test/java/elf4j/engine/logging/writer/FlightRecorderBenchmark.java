@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import elf4j.engine.logging.writer.LogEventSuppressionBenchmark.RenderingLogEventWriterFactory;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost per debug call of keeping the event in the flight recorder, against writing it out
+ * synchronously through a rendering writer. Run with {@code -prof gc} for the memory taken per
+ * recorded event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Delf4j.internal.log.min.level=warn")
+public class FlightRecorderBenchmark {
+  private static final Object[] ARGUMENTS = {"order-42", 3};
+
+  CompositeLogEventWriter compositeLogEventWriter;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(FlightRecorderBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.MODE, "sync");
+    properties.setProperty(ConfigurationProperties.RECORDER_SIZE, "256");
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, RenderingLogEventWriterFactory.class.getName());
+    compositeLogEventWriter =
+        CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void record() {
+    compositeLogEventWriter.record(
+        "benchmark.orders", Level.DEBUG, null, "Order {} retried {} time(s)", ARGUMENTS);
+  }
+
+  @Benchmark
+  public void write() {
+    compositeLogEventWriter.write(
+        "benchmark.orders", Level.DEBUG, null, "Order {} retried {} time(s)", ARGUMENTS, null);
+  }
+}
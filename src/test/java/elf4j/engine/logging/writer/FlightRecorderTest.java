@@ -0,0 +1,105 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.FlightRecorderCounts;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderTest {
+  static final LogEvent.CallerThreadValue CURRENT_THREAD =
+      LogEvent.CallerThreadValue.ofCurrentThread();
+
+  static LogEvent logEvent(
+      String message, LogEvent.CallerThreadValue callerThread, @Nullable String requestId) {
+    return new LogEvent(
+        System.nanoTime(),
+        "testLogger",
+        Level.DEBUG,
+        null,
+        message,
+        null,
+        callerThread,
+        null,
+        requestId == null ? Map.of() : Map.of("requestId", requestId));
+  }
+
+  static List<Object> messages(List<LogEvent> logEvents) {
+    return logEvents.stream().map(LogEvent::message).toList();
+  }
+
+  @Nested
+  class byCallerThread {
+    @Test
+    void takeCurrentInOrderRecordedKeepingLastOfSize() {
+      FlightRecorder sut = new FlightRecorder(2, 16, null);
+      sut.record(logEvent("1", CURRENT_THREAD, null));
+      sut.record(logEvent("2", CURRENT_THREAD, null));
+      sut.record(logEvent("3", CURRENT_THREAD, null));
+      sut.record(logEvent("other", new LogEvent.CallerThreadValue("other", -2), null));
+
+      assertEquals(List.of("2", "3"), messages(sut.takeCurrent()));
+      assertEquals(List.of(), sut.takeCurrent());
+      assertEquals(new FlightRecorderCounts(1, 32, 2, 1, 0), sut.counts());
+    }
+
+    @Test
+    void evictsEarliestKeyBeyondMaxKeys() {
+      FlightRecorder sut = new FlightRecorder(4, 2, null);
+      sut.record(logEvent("1", new LogEvent.CallerThreadValue("thread1", -1), null));
+      sut.record(logEvent("1", new LogEvent.CallerThreadValue("thread1", -1), null));
+      sut.record(logEvent("2", new LogEvent.CallerThreadValue("thread2", -2), null));
+      sut.record(logEvent("3", CURRENT_THREAD, null));
+
+      assertEquals(new FlightRecorderCounts(2, 8, 0, 0, 2), sut.counts());
+      assertEquals(List.of("2", "3"), messages(sut.takeAll()));
+    }
+
+    @Test
+    void evictsEarliestLiveKeyPastKeysTaken() {
+      FlightRecorder sut = new FlightRecorder(4, 2, null);
+      sut.record(logEvent("1", new LogEvent.CallerThreadValue("thread1", -1), null));
+      for (int i = 0; i < 5; i++) {
+        sut.record(logEvent("taken", CURRENT_THREAD, null));
+        assertEquals(List.of("taken"), messages(sut.takeCurrent()));
+      }
+      sut.record(logEvent("2", new LogEvent.CallerThreadValue("thread2", -2), null));
+      sut.record(logEvent("3", CURRENT_THREAD, null));
+
+      assertEquals(new FlightRecorderCounts(2, 8, 5, 0, 1), sut.counts());
+      assertEquals(List.of("2", "3"), messages(sut.takeAll()));
+    }
+  }
+
+  @Nested
+  class byContext {
+    @Test
+    void takeAllInTimestampOrder() {
+      FlightRecorder sut = new FlightRecorder(8, 16, "requestId");
+      sut.record(logEvent("a1", CURRENT_THREAD, "a"));
+      sut.record(logEvent("b1", CURRENT_THREAD, "b"));
+      sut.record(logEvent("a2", CURRENT_THREAD, "a"));
+      sut.record(logEvent("t1", CURRENT_THREAD, null));
+
+      assertEquals(List.of("a1", "b1", "a2", "t1"), messages(sut.takeAll()));
+      assertEquals(new FlightRecorderCounts(0, 128, 4, 0, 0), sut.counts());
+    }
+
+    @Test
+    void clearDiscardsAsEvicted() {
+      FlightRecorder sut = new FlightRecorder(8, 16, "requestId");
+      sut.record(logEvent("a1", CURRENT_THREAD, "a"));
+      sut.record(logEvent("b1", CURRENT_THREAD, "b"));
+
+      sut.clear();
+
+      assertEquals(List.of(), sut.takeAll());
+      assertEquals(new FlightRecorderCounts(0, 128, 0, 0, 2), sut.counts());
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.writer.CompositeLogEventWriter.OrderKey;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LogEventOrderTest {
+  static LogEvent logEvent(long callerThreadId, Map<String, String> context) {
+    return new LogEvent(
+        0,
+        "testLogger",
+        Level.INFO,
+        null,
+        "message",
+        null,
+        new LogEvent.CallerThreadValue("caller", callerThreadId),
+        null,
+        context);
+  }
+
+  @Test
+  void contextOrderRequiresContextName() {
+    assertThrows(IllegalArgumentException.class, () -> new LogEventOrder(OrderKey.CONTEXT, null));
+  }
+
+  @Nested
+  class sequenceKeyOf {
+    @Test
+    void contextValueOrCallerThreadWithoutIt() {
+      LogEventOrder sut = new LogEventOrder(OrderKey.CONTEXT, "requestId");
+
+      assertEquals("r1", sut.sequenceKeyOf(logEvent(7, Map.of("requestId", "r1"))));
+      assertEquals(7L, sut.sequenceKeyOf(logEvent(7, Map.of())));
+    }
+
+    @Test
+    void sameKeyForAllEventsInGlobalOrder() {
+      LogEventOrder sut = new LogEventOrder(OrderKey.GLOBAL, null);
+
+      assertEquals(
+          sut.sequenceKeyOf(logEvent(1, Map.of())), sut.sequenceKeyOf(logEvent(2, Map.of())));
+    }
+  }
+
+  @Nested
+  class queueIndexOf {
+    @Test
+    void sameQueueForSameCallerThread() {
+      LogEventOrder sut = new LogEventOrder(OrderKey.CALLER_THREAD, null);
+
+      assertEquals(3, sut.queueIndexOf(logEvent(7, Map.of()), 4));
+      assertEquals(3, sut.queueIndexOf(logEvent(-1, Map.of()), 4));
+    }
+
+    @Test
+    void withinQueueCountForAnyKey() {
+      for (OrderKey orderKey : OrderKey.values()) {
+        LogEventOrder sut = new LogEventOrder(orderKey, "requestId");
+        for (int i = 0; i < 100; i++) {
+          int index = sut.queueIndexOf(logEvent(-i, Map.of("requestId", "r" + i)), 3);
+
+          assertTrue(index >= 0 && index < 3, orderKey + " index " + index);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost per log call of an error storm of the same message template, written synchronously with and
+ * without suppression of the repeats. The writer renders each event's message and line as if to be
+ * written out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Delf4j.internal.log.min.level=warn")
+public class LogEventSuppressionBenchmark {
+  private static final Object[] ARGUMENTS = {"downstream", 30_000};
+
+  @Param({"0", "1000"})
+  String suppressWindowMs;
+
+  CompositeLogEventWriter compositeLogEventWriter;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(LogEventSuppressionBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.MODE, "sync");
+    properties.setProperty(ConfigurationProperties.SUPPRESS_WINDOW_MS, suppressWindowMs);
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, RenderingLogEventWriterFactory.class.getName());
+    compositeLogEventWriter =
+        CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void logErrorStorm() {
+    compositeLogEventWriter.write(
+        "benchmark.client", Level.ERROR, null, "Call to {} timed out after {} ms", ARGUMENTS, null);
+  }
+
+  /** Renders each event into a line, and keeps only its length */
+  public static class RenderingLogEventWriterFactory implements LogEventWriterFactory {
+    static volatile int renderedLength;
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          renderedLength = "%s %s %s %s"
+              .formatted(
+                  logEvent.timestampNanos(),
+                  logEvent.level(),
+                  logEvent.loggerName(),
+                  logEvent.getResolvedMessage())
+              .length();
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import elf4j.Level;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LogEventSuppressorTest {
+  final List<String> summaries = new CopyOnWriteArrayList<>();
+
+  LogEventSuppressor suppressor(Duration window, int maxKeys) {
+    return new LogEventSuppressor(
+        window,
+        maxKeys,
+        (loggerName, level, message, suppressedCount) ->
+            summaries.add("%s|%s|%s|%s".formatted(loggerName, level, message, suppressedCount)));
+  }
+
+  @Nested
+  class admit {
+    @Test
+    void firstOfKeyThenSuppressesRepeatsWithinWindow() {
+      LogEventSuppressor sut = suppressor(Duration.ofHours(1), 16);
+
+      assertTrue(sut.admit("testLogger", Level.ERROR, "timeout {}"));
+      assertFalse(sut.admit("testLogger", Level.ERROR, "timeout {}"));
+      assertFalse(sut.admit("testLogger", Level.ERROR, "timeout {}"));
+      assertTrue(sut.admit("testLogger", Level.WARN, "timeout {}"));
+      assertTrue(sut.admit("otherLogger", Level.ERROR, "timeout {}"));
+      assertTrue(sut.admit("testLogger", Level.ERROR, "other {}"));
+
+      assertEquals(List.of(), summaries);
+    }
+
+    @Test
+    void summarizesRepeatsWhenNextWindowAdmits() throws InterruptedException {
+      LogEventSuppressor sut = suppressor(Duration.ofMillis(50), 16);
+      sut.admit("testLogger", Level.ERROR, "timeout {}");
+      sut.admit("testLogger", Level.ERROR, "timeout {}");
+      sut.admit("testLogger", Level.ERROR, "timeout {}");
+
+      Thread.sleep(100);
+
+      assertTrue(sut.admit("testLogger", Level.ERROR, "timeout {}"));
+      assertEquals(List.of("testLogger|ERROR|timeout {}|2"), summaries);
+    }
+
+    @Test
+    void summarizesRepeatsOfClosedWindowOnAdmittingOtherKey() throws InterruptedException {
+      LogEventSuppressor sut = suppressor(Duration.ofMillis(50), 16);
+      sut.admit("testLogger", Level.ERROR, "timeout {}");
+      sut.admit("testLogger", Level.ERROR, "timeout {}");
+
+      Thread.sleep(100);
+
+      assertTrue(sut.admit("otherLogger", Level.INFO, "started"));
+      assertEquals(List.of("testLogger|ERROR|timeout {}|1"), summaries);
+      assertTrue(sut.admit("testLogger", Level.ERROR, "timeout {}"));
+      assertEquals(List.of("testLogger|ERROR|timeout {}|1"), summaries);
+    }
+
+    @Test
+    void summarizesRepeatsOfEvictedEarliestWindowKey() {
+      LogEventSuppressor sut = suppressor(Duration.ofHours(1), 2);
+      sut.admit("logger1", Level.ERROR, "timeout");
+      sut.admit("logger1", Level.ERROR, "timeout");
+      sut.admit("logger2", Level.ERROR, "timeout");
+      sut.admit("logger2", Level.ERROR, "timeout");
+      sut.admit("logger1", Level.ERROR, "timeout");
+
+      assertTrue(sut.admit("logger3", Level.ERROR, "timeout"));
+
+      assertEquals(List.of("logger1|ERROR|timeout|2"), summaries);
+      assertTrue(sut.admit("logger1", Level.ERROR, "timeout"));
+      assertFalse(sut.admit("logger3", Level.ERROR, "timeout"));
+    }
+  }
+
+  @Test
+  void admitsOrReportsEveryCallAcrossConcurrentSweepsAndEvictions() throws InterruptedException {
+    AtomicLong reported = new AtomicLong();
+    LogEventSuppressor sut = new LogEventSuppressor(
+        Duration.ofMillis(1),
+        2,
+        (loggerName, level, message, suppressedCount) -> reported.addAndGet(suppressedCount));
+    int threads = 8;
+    int callsPerThread = 20_000;
+    LongAdder admitted = new LongAdder();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      for (int t = 0; t < threads; t++) {
+        executor.execute(() -> {
+          for (int i = 0; i < callsPerThread; i++) {
+            if (sut.admit("logger" + i % 4, Level.ERROR, "timeout")) {
+              admitted.increment();
+            }
+          }
+        });
+      }
+    }
+    sut.flush();
+
+    assertEquals((long) threads * callsPerThread, admitted.sum() + reported.get());
+  }
+
+  @Test
+  void flushSummarizesAllRepeatsSoFar() {
+    LogEventSuppressor sut = suppressor(Duration.ofHours(1), 16);
+    sut.admit("logger1", Level.ERROR, "timeout");
+    sut.admit("logger1", Level.ERROR, "timeout");
+    sut.admit("logger2", Level.INFO, "started");
+
+    sut.flush();
+
+    assertEquals(List.of("logger1|ERROR|timeout|1"), summaries);
+    assertTrue(sut.admit("logger1", Level.ERROR, "timeout"));
+  }
+}
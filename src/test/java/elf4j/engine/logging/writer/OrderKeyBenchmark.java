@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+import org.slf4j.MdcAdapterInitializer;
+
+/**
+ * End-to-end throughput of a single hot caller thread, from its log calls to all the events
+ * written, per order key and dispatch mode. The writer blocks for a short while on each event, as
+ * if on I/O, so the throughput reflects how many events the order key lets be written in parallel.
+ * The events are spread over 8 logger names and 8 request ids in the MDC context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Delf4j.internal.log.min.level=warn")
+public class OrderKeyBenchmark {
+  private static final int EVENTS = 512;
+  private static final int KEYS = 8;
+  private static final String[] LOGGER_NAMES = new String[KEYS];
+  private static final String[] REQUEST_IDS = new String[KEYS];
+
+  static {
+    for (int i = 0; i < KEYS; i++) {
+      LOGGER_NAMES[i] = "benchmark.logger" + i;
+      REQUEST_IDS[i] = "request-" + i;
+    }
+  }
+
+  @Param({"async", "bounded"})
+  String mode;
+
+  @Param({"caller-thread", "logger", "context", "global", "unordered"})
+  String orderKey;
+
+  CompositeLogEventWriter compositeLogEventWriter;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(OrderKeyBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    MdcAdapterInitializer.initialize();
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.MODE, mode);
+    properties.setProperty(ConfigurationProperties.CONCURRENCY, String.valueOf(KEYS));
+    properties.setProperty(ConfigurationProperties.ORDER_KEY, orderKey);
+    properties.setProperty(ConfigurationProperties.ORDER_KEY_CONTEXT, "requestId");
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, BlockingLogEventWriterFactory.class.getName());
+    compositeLogEventWriter =
+        CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @TearDown
+  public void tearDown() {
+    MDC.clear();
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void logFromHotThread() {
+    long expectedWritten = BlockingLogEventWriterFactory.WRITTEN.get() + EVENTS;
+    for (int i = 0; i < EVENTS; i++) {
+      MDC.put("requestId", REQUEST_IDS[i % KEYS]);
+      compositeLogEventWriter.write(
+          LOGGER_NAMES[i / (EVENTS / KEYS)], Level.INFO, null, "order shipped", null, null);
+    }
+    while (BlockingLogEventWriterFactory.WRITTEN.get() < expectedWritten) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+    }
+  }
+
+  /** Blocks for 20 microseconds on each event written */
+  public static class BlockingLogEventWriterFactory implements LogEventWriterFactory {
+    static final AtomicLong WRITTEN = new AtomicLong();
+    private static final long BLOCK_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          LockSupport.parkNanos(BLOCK_NANOS);
+          WRITTEN.incrementAndGet();
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
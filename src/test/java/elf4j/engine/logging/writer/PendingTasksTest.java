@@ -0,0 +1,48 @@
+package elf4j.engine.logging.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PendingTasksTest {
+  final PendingTasks sut = new PendingTasks();
+
+  @Nested
+  class awaitDrained {
+    @Test
+    void returnsOnceLastTaskFinishes() {
+      int total = 3;
+      for (int i = 0; i < total; i++) {
+        sut.submitted();
+      }
+      try (ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor()) {
+        for (int i = 0; i < total; i++) {
+          executor.schedule(sut::finished, 50L * (i + 1), TimeUnit.MILLISECONDS);
+        }
+
+        long start = System.nanoTime();
+        long pending = sut.awaitDrained(start + Duration.ofSeconds(5).toNanos());
+
+        assertEquals(0, pending);
+        assertEquals(total, sut.finishedCount());
+        assertTrue(
+            Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+      }
+    }
+
+    @Test
+    void returnsPendingCountPastDeadline() {
+      sut.submitted();
+      sut.submitted();
+      sut.finished();
+
+      assertEquals(1, sut.awaitDrained(System.nanoTime() + Duration.ofMillis(50).toNanos()));
+    }
+  }
+}
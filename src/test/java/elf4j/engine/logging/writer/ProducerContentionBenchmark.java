@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Caller-side cost of log calls handed over to a discarding writer, by the async executor versus
+ * the ring buffer with each of its wait strategies, at 1, 8, 32, and 128 concurrent producer
+ * threads. The ring applies back-pressure once full, so its cost includes waiting for the consumer;
+ * the async executor's backlog is unbounded instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xmx2g", "-Delf4j.internal.log.min.level=warn"})
+public class ProducerContentionBenchmark {
+  @Param({"async", "ring-spin", "ring-yield", "ring-park", "ring-blocking"})
+  String dispatcher;
+
+  CompositeLogEventWriter compositeLogEventWriter;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(ProducerContentionBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Properties properties = new Properties();
+    if (dispatcher.startsWith("ring-")) {
+      properties.setProperty(ConfigurationProperties.MODE, "ring");
+      properties.setProperty(
+          ConfigurationProperties.RING_WAIT, dispatcher.substring("ring-".length()));
+    } else {
+      properties.setProperty(ConfigurationProperties.MODE, dispatcher);
+    }
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, DiscardingLogEventWriterFactory.class.getName());
+    compositeLogEventWriter =
+        CompositeLogEventWriter.from(ConfigurationProperties.bySetting(properties));
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void producers1() {
+    log();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void producers8() {
+    log();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void producers32() {
+    log();
+  }
+
+  @Benchmark
+  @Threads(128)
+  public void producers128() {
+    log();
+  }
+
+  private void log() {
+    compositeLogEventWriter.write("benchmarkLogger", Level.INFO, null, "order shipped", null, null);
+  }
+
+  public static class DiscardingLogEventWriterFactory implements LogEventWriterFactory {
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {}
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
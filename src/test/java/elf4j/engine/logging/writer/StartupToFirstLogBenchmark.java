@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Level;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startup-to-first-log latency of the composite writer, from its creation to its first log written,
+ * and the same plus the service shutdown, as a short-lived process would go through, per mode.
+ * Internal info logs are turned off, not to time the console output of the lifecycle messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Delf4j.internal.log.min.level=warn")
+public class StartupToFirstLogBenchmark {
+  @Param({"async", "sync"})
+  String mode;
+
+  ConfigurationProperties configurationProperties;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(StartupToFirstLogBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationProperties.MODE, mode);
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, CountingLogEventWriterFactory.class.getName());
+    configurationProperties = ConfigurationProperties.bySetting(properties);
+  }
+
+  @TearDown(org.openjdk.jmh.annotations.Level.Invocation)
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void startToFirstLog() {
+    startAndLogFirst();
+  }
+
+  @Benchmark
+  public void startFirstLogAndShutdown() {
+    startAndLogFirst();
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  private void startAndLogFirst() {
+    long expectedWritten = CountingLogEventWriterFactory.WRITTEN.get() + 1;
+    CompositeLogEventWriter compositeLogEventWriter =
+        CompositeLogEventWriter.from(configurationProperties);
+    compositeLogEventWriter.write("benchmarkLogger", Level.INFO, null, "started", null, null);
+    while (CountingLogEventWriterFactory.WRITTEN.get() < expectedWritten) {
+      Thread.onSpinWait();
+    }
+  }
+
+  public static class CountingLogEventWriterFactory implements LogEventWriterFactory {
+    static final AtomicLong WRITTEN = new AtomicLong();
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          WRITTEN.incrementAndGet();
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Qingtian Wang
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package elf4j.engine.logging.writer;
+
+import elf4j.Logger;
+import elf4j.engine.logging.LogEvent;
+import elf4j.engine.logging.NativeLogServiceManager;
+import elf4j.engine.logging.configuration.ConfigurationProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Time for 10k concurrent virtual-thread loggers to have all their logs written, from the start of
+ * the loggers to the last event written, per execution mode of the composite writer and per
+ * simulated blocking I/O time of each output operation of the writer.
+ *
+ * <p>Execution modes are the async executor, whose lanes run on virtual threads, and the bounded
+ * queues, drained by either platform or virtual worker threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualThreadLoggersBenchmark {
+  private static final int LOGGERS = 10_000;
+  private static final int LOGS_PER_LOGGER = 10;
+  private static final long WRITTEN_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  @Param({"async", "bounded-platform", "bounded-virtual"})
+  String execution;
+
+  @Param({"0", "100"})
+  int ioMicros;
+
+  Logger logger;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+            .include(VirtualThreadLoggersBenchmark.class.getSimpleName())
+            .build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    logger = Logger.instance();
+    Properties properties = new Properties();
+    switch (execution) {
+      case "async" -> properties.setProperty(ConfigurationProperties.MODE, "async");
+      case "bounded-platform" -> {
+        properties.setProperty(ConfigurationProperties.MODE, "bounded");
+        properties.setProperty(ConfigurationProperties.QUEUE_THREADS, "platform");
+      }
+      case "bounded-virtual" -> {
+        properties.setProperty(ConfigurationProperties.MODE, "bounded");
+        properties.setProperty(ConfigurationProperties.QUEUE_THREADS, "virtual");
+      }
+      default -> throw new IllegalArgumentException(execution);
+    }
+    properties.setProperty(
+        ConfigurationProperties.WRITER_FACTORIES, CountingLogEventWriterFactory.class.getName());
+    properties.setProperty(CountingLogEventWriterFactory.IO_MICROS, String.valueOf(ioMicros));
+    NativeLogServiceManager.INSTANCE.restart(properties);
+  }
+
+  @TearDown
+  public void tearDown() {
+    NativeLogServiceManager.INSTANCE.shutdown();
+  }
+
+  @Benchmark
+  public void logFromVirtualThreads() throws InterruptedException {
+    long expectedWritten = CountingLogEventWriterFactory.WRITTEN.get() + LOGGERS * LOGS_PER_LOGGER;
+    List<Thread> loggers = new ArrayList<>(LOGGERS);
+    for (int i = 0; i < LOGGERS; i++) {
+      loggers.add(Thread.ofVirtual().start(() -> {
+        for (int j = 0; j < LOGS_PER_LOGGER; j++) {
+          logger.log("order {} shipped", j);
+        }
+      }));
+    }
+    for (Thread thread : loggers) {
+      thread.join();
+    }
+    long deadline = System.nanoTime() + WRITTEN_TIMEOUT_NANOS;
+    while (CountingLogEventWriterFactory.WRITTEN.get() < expectedWritten) {
+      if (System.nanoTime() - deadline > 0) {
+        throw new IllegalStateException("Logs not all written in time");
+      }
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+  }
+
+  /**
+   * Counts the written events, spending the configured time blocked on each output operation, i.e.
+   * each single event or batch of events written
+   */
+  public static class CountingLogEventWriterFactory implements LogEventWriterFactory {
+    static final String IO_MICROS = "benchmark.io.micros";
+    static final AtomicLong WRITTEN = new AtomicLong();
+
+    @Override
+    public LogEventWriter getWriter(Properties properties) {
+      long ioNanos =
+          TimeUnit.MICROSECONDS.toNanos(Long.parseLong(properties.getProperty(IO_MICROS, "0")));
+      return new LogEventWriter() {
+        @Override
+        public void write(LogEvent logEvent) {
+          output(1);
+        }
+
+        @Override
+        public void write(List<LogEvent> logEvents) {
+          output(logEvents.size());
+        }
+
+        @Override
+        public boolean requiresCallerDetail() {
+          return false;
+        }
+
+        private void output(int events) {
+          if (ioNanos > 0) {
+            LockSupport.parkNanos(ioNanos);
+          }
+          WRITTEN.addAndGet(events);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package org.slf4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CopyOnWriteMdcAdapterTest {
+  CopyOnWriteMdcAdapter sut = new CopyOnWriteMdcAdapter();
+
+  @Nested
+  class getContextSnapshot {
+    @Test
+    void emptyWhenNoContext() {
+      assertTrue(sut.getContextSnapshot().isEmpty());
+      assertNull(sut.getCopyOfContextMap());
+    }
+
+    @Test
+    void sameSnapshotUntilUpdated() {
+      sut.put("k1", "v1");
+
+      Map<String, String> snapshot = sut.getContextSnapshot();
+
+      assertSame(snapshot, sut.getContextSnapshot());
+      sut.put("k2", "v2");
+      assertEquals(Map.of("k1", "v1"), snapshot);
+      assertEquals(Map.of("k1", "v1", "k2", "v2"), sut.getContextSnapshot());
+      sut.remove("k1");
+      assertEquals(Map.of("k2", "v2"), sut.getContextSnapshot());
+      sut.clear();
+      assertTrue(sut.getContextSnapshot().isEmpty());
+    }
+
+    @Test
+    void immutable() {
+      sut.put("k1", "v1");
+
+      assertThrows(
+          UnsupportedOperationException.class, () -> sut.getContextSnapshot().put("k2", "v2"));
+    }
+
+    @Test
+    void notAffectedByChangesToMapSetOrCopied() {
+      Map<String, String> set = new HashMap<>(Map.of("k1", "v1"));
+      sut.setContextMap(set);
+
+      set.put("k2", "v2");
+      Map<String, String> copy = sut.getCopyOfContextMap();
+      copy.put("k3", "v3");
+
+      assertEquals(Map.of("k1", "v1"), sut.getContextSnapshot());
+    }
+
+    @Test
+    void inheritedByChildThread() throws InterruptedException {
+      sut.put("k1", "v1");
+      AtomicReference<Map<String, String>> inherited = new AtomicReference<>();
+
+      Thread child = new Thread(() -> inherited.set(sut.getContextSnapshot()));
+      child.start();
+      child.join();
+
+      assertSame(sut.getContextSnapshot(), inherited.get());
+    }
+  }
+}